@@ -2,6 +2,8 @@ package ch.obermuhlner.math.big.example;
 
 import ch.obermuhlner.math.big.BigRational;
 
+import java.util.List;
+
 public class BernoulliTable {
 
 	public static void main(String[] args) {
@@ -11,8 +13,9 @@ public class BernoulliTable {
 
 	private static void printBernoulliTableSimple(int n) {
 		System.out.printf("%3s,%s\n", "N", "Bernoulli");
+		List<BigRational> bernoulli = BigRational.bernoulli(0, n);
 		for (int i = 0; i < n; i++) {
-			BigRational b = BigRational.bernoulli(i).reduce();
+			BigRational b = bernoulli.get(i);
 			System.out.printf("%3d,%s\n", i, b.toRationalString());
 		}
 	}
@@ -24,8 +27,9 @@ public class BernoulliTable {
 		System.out.printf("<th>N</th>");
 		System.out.printf("<th>Bernoulli Number</th>\n");
 		System.out.printf("</thead>\n");
+		List<BigRational> bernoulli = BigRational.bernoulli(0, n);
 		for (int i = 0; i < n; i++) {
-			BigRational b = BigRational.bernoulli(i).reduce();
+			BigRational b = bernoulli.get(i);
 			System.out.printf("<tr>");
 			System.out.printf("<td>%3d</td>", i);
 			System.out.printf("<td>%50s</td>", b.toRationalString());
@@ -38,8 +42,9 @@ public class BernoulliTable {
 		System.out.printf("<table>\n");
 		
 		System.out.printf("</thead>\n");
+		List<BigRational> bernoulli = BigRational.bernoulli(0, n);
 		for (int i = 0; i < n; i++) {
-			BigRational b = BigRational.bernoulli(i).reduce();
+			BigRational b = bernoulli.get(i);
 			System.out.printf("<tr>");
 			System.out.printf("<td style=\"vertical-align: middle\">B<sub>%d</sub>&nbsp;=</td>", i);
 			System.out.printf("<td>\n");
@@ -734,6 +734,35 @@ public class BigDecimalMathExperimental {
 		return result.round(mathContext);
 	}
 
+	public static BigDecimal logUsingAgm(BigDecimal x, MathContext mathContext) {
+		// https://en.wikipedia.org/wiki/Natural_logarithm in chapter 'High Precision'
+		// log(x) = pi / (2 * agm(1, 4/s)) - m * log(2) with s = x * 2^m > 2^(p/2)
+		int cancelledDigits = (int) Math.log10(mathContext.getPrecision()) + 1;
+		BigDecimal xMinusOne = x.subtract(ONE);
+		if (BigDecimalMath.exponent(xMinusOne) < 0) {
+			cancelledDigits -= BigDecimalMath.exponent(xMinusOne);
+		}
+		MathContext mc = new MathContext(mathContext.getPrecision() + cancelledDigits + 6, mathContext.getRoundingMode());
+
+		double log10Two = Math.log10(2);
+		int m = Math.max(0, (int) Math.ceil(mc.getPrecision() / 2.0 / log10Two - (BigDecimalMath.exponent(x) + 1) / log10Two) + 1);
+		BigDecimal s = x.multiply(TWO.pow(m));
+
+		BigDecimal a = ONE;
+		BigDecimal b = valueOf(4).divide(s, mc);
+		BigDecimal acceptableError = ONE.movePointLeft(mc.getPrecision() / 2 + 1);
+		while (a.subtract(b).abs().compareTo(a.multiply(acceptableError)) > 0) {
+			BigDecimal nextA = a.add(b).divide(TWO, mc);
+			b = BigDecimalMath.sqrt(a.multiply(b, mc), mc);
+			a = nextA;
+		}
+		a = a.add(b).divide(TWO, mc);
+
+		BigDecimal result = BigDecimalMath.pi(mc).divide(TWO.multiply(a), mc);
+		result = result.subtract(BigDecimalMath.log(TWO, mc).multiply(valueOf(m), mc), mc);
+		return result.round(mathContext);
+	}
+
 	public static BigDecimal toBigDecimalSplitCount(String string, MathContext mathContext, int splitCount) {
 		int len = string.length();
 		if (len < 20) {
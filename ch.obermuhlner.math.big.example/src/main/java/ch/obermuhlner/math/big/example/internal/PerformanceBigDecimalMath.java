@@ -84,6 +84,8 @@ public class PerformanceBigDecimalMath {
 		performanceReport_Fast_0_to_100();
 
 		performanceReport_Trigo_0_to_1();
+		performanceReport_Trigo_0_to_7_low_precision();
+		performanceReport_Trigo_precision();
 		performanceReport_Hyperbolic_0_to_2();
 
 		performanceReport_Slow_0_to_2();
@@ -101,6 +103,7 @@ public class PerformanceBigDecimalMath {
 
 		performanceReport_Fast_precision();
 		performanceReport_Slow_precision();
+		performanceReport_exp_long_argument_precision();
 
 		performanceReportAtan2_y_neg10_to_10_x_5();
 		performanceReportAtan2_y_5_x_neg10_to_10();
@@ -133,6 +136,8 @@ public class PerformanceBigDecimalMath {
 		performanceReportLogOptimizationNewton_0_to_10();
 		performanceReportLogOptimizationNewton_0_to_100();
 
+		performanceReportLogOptimizationAgm_precision();
+
 //		performanceReportLogOptimizationTry();
 //		performanceReportLogOptimization1();
 //		performanceReportLogOptimization2();
@@ -233,6 +238,36 @@ public class PerformanceBigDecimalMath {
 				(x, calculationMathContext) -> BigDecimalMath.atan(x, calculationMathContext));
 	}
 
+	private static void performanceReport_Trigo_0_to_7_low_precision() {
+		for (MathContext mathContext : new MathContext[] { MathContext.DECIMAL64, new MathContext(50) }) {
+			performanceReportOverValue(
+					"perf_trigo_funcs_from_0_to_7_precision_" + mathContext.getPrecision() + ".csv",
+					mathContext,
+					0,
+					+7.0,
+					+0.01,
+					FAST_REPEATS,
+					Arrays.asList("sin", "cos", "tan"),
+					(x, calculationMathContext) -> BigDecimalMath.sin(x, calculationMathContext),
+					(x, calculationMathContext) -> BigDecimalMath.cos(x, calculationMathContext),
+					(x, calculationMathContext) -> BigDecimalMath.tan(x, calculationMathContext));
+		}
+	}
+
+	private static void performanceReport_Trigo_precision() {
+		performanceReportOverPrecision(
+				"perf_trigo_funcs_precisions_to_1000.csv",
+				BigDecimal.valueOf(2.7),
+				10,
+				1000,
+				10,
+				REPEATS,
+				Arrays.asList("sin", "cos", "tan"),
+				(x, calculationMathContext) -> BigDecimalMath.sin(x, calculationMathContext),
+				(x, calculationMathContext) -> BigDecimalMath.cos(x, calculationMathContext),
+				(x, calculationMathContext) -> BigDecimalMath.tan(x, calculationMathContext));
+	}
+
 	private static void performanceReport_Hyperbolic_0_to_2() {
 		performanceReportOverValue(
 				"perf_hyperbolic_funcs_from_0_to_2.csv",
@@ -399,6 +434,21 @@ public class PerformanceBigDecimalMath {
 				(x, calculationMathContext) -> BigDecimalMath.pow(BigDecimal.valueOf(123.456), x, calculationMathContext));
 	}
 
+	private static void performanceReport_exp_long_argument_precision() {
+		// arguments with many digits where the exact binary splitting is only used at high precision
+		performanceReportOverPrecision(
+				"perf_exp_long_argument_precisions_to_200.csv",
+				new BigDecimal("12.34567890123456789"),
+				10,
+				200,
+				2,
+				FAST_REPEATS,
+				Arrays.asList("exp(12.34567890123456789)", "exp(99.99999999999999999)", "exp(-99.99999999999999999)"),
+				(x, calculationMathContext) -> BigDecimalMath.exp(x, calculationMathContext),
+				(x, calculationMathContext) -> BigDecimalMath.exp(new BigDecimal("99.99999999999999999"), calculationMathContext),
+				(x, calculationMathContext) -> BigDecimalMath.exp(new BigDecimal("-99.99999999999999999"), calculationMathContext));
+	}
+
 	private static void performanceReportExpOptimization_0_to_4() {
 		performanceReportOverValue(
 				"test_exp_impl_from_0_to_4.csv",
@@ -772,6 +822,22 @@ public class PerformanceBigDecimalMath {
 								BigDecimalMathExperimental::logUsingNewtonFixPrecision)));
 	}
 
+	private static void performanceReportLogOptimizationAgm_precision() {
+		// crossover between Newton and AGM used to define the threshold in BigDecimalMath.log()
+		performanceReportOverPrecision(
+				"test_log_agm_precisions_to_30000.csv",
+				BigDecimal.valueOf(3.1),
+				1000,
+				30000,
+				1000,
+				1,
+				Arrays.asList("log", "newton", "agm"),
+				(x1, mc1) -> BigDecimalMath.log(x1, mc1),
+				(x1, mc1) -> BigDecimalMathExperimental.logUsingExponent(x1, mc1,
+						BigDecimalMathExperimental::logUsingNewtonAdaptivePrecision),
+				(x1, mc1) -> BigDecimalMathExperimental.logUsingAgm(x1, mc1));
+	}
+
 	private static class OperationInfo {
 		BigDecimal b1;
 		BigDecimal b2;
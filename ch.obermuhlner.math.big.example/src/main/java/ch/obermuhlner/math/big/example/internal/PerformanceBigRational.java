@@ -0,0 +1,122 @@
+package ch.obermuhlner.math.big.example.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import ch.obermuhlner.math.big.BigRational;
+import ch.obermuhlner.math.big.example.StopWatch;
+
+/**
+ * Performance measurements for typical workloads of {@link BigRational} with small fractions (for example 3/8 or 17/100).
+ *
+ * <p>Prints the throughput and the number of allocated bytes per operation.</p>
+ */
+public class PerformanceBigRational {
+
+	private static final int VALUE_COUNT = 1000;
+
+	private static final int WARMUP_REPEATS = 2000;
+	private static final int REPEATS = 2000;
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	public static void main(String[] args) {
+		StopWatch stopWatch = new StopWatch();
+
+		performanceReport_SmallFractions();
+
+		System.out.println("Finished all in " + stopWatch);
+	}
+
+	private static void performanceReport_SmallFractions() {
+		Random random = new Random(1234);
+
+		List<BigRational> prices = new ArrayList<>();
+		List<BigRational> rates = new ArrayList<>();
+		for (int i = 0; i < VALUE_COUNT; i++) {
+			prices.add(BigRational.valueOf(random.nextInt(100000), 100));
+			rates.add(BigRational.valueOf(random.nextInt(16) + 1, 8 << random.nextInt(3)));
+		}
+
+		System.out.printf("%-30s %15s %15s%n", "workload", "ns/op", "bytes/op");
+
+		performanceReport("add (same denominator)", prices, (values) -> {
+			BigRational sum = BigRational.ZERO;
+			for (BigRational value : values) {
+				sum = sum.add(value);
+			}
+			return sum;
+		});
+
+		performanceReport("add (different denominator)", rates, (values) -> {
+			BigRational result = BigRational.ZERO;
+			for (int i = 0; i < values.size(); i++) {
+				result = values.get(i).add(prices.get(i));
+			}
+			return result;
+		});
+
+		performanceReport("multiply", rates, (values) -> {
+			BigRational result = BigRational.ZERO;
+			for (int i = 0; i < values.size(); i++) {
+				result = prices.get(i).multiply(values.get(i));
+			}
+			return result;
+		});
+
+		performanceReport("multiply add", rates, (values) -> {
+			BigRational sum = BigRational.ZERO;
+			for (int i = 0; i < values.size(); i++) {
+				sum = sum.add(prices.get(i).multiply(values.get(i)).reduce());
+			}
+			return sum;
+		});
+
+		performanceReport("divide int", prices, (values) -> {
+			BigRational result = BigRational.ZERO;
+			for (BigRational value : values) {
+				result = value.divide(3);
+			}
+			return result;
+		});
+
+		performanceReport("compareTo", rates, (values) -> {
+			int count = 0;
+			for (int i = 1; i < values.size(); i++) {
+				if (values.get(i).compareTo(values.get(i - 1)) > 0) {
+					count++;
+				}
+			}
+			return BigRational.valueOf(count);
+		});
+
+		performanceReport("sort", prices, (values) -> {
+			List<BigRational> sorted = new ArrayList<>(values);
+			Collections.sort(sorted);
+			return sorted.get(0);
+		});
+	}
+
+	private static void performanceReport(String name, List<BigRational> values, Function<List<BigRational>, BigRational> calculation) {
+		BigRational result = null;
+		for (int i = 0; i < WARMUP_REPEATS; i++) {
+			result = calculation.apply(values);
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long startBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+		StopWatch stopWatch = new StopWatch();
+		for (int i = 0; i < REPEATS; i++) {
+			result = calculation.apply(values);
+		}
+		long elapsedMicros = stopWatch.getElapsedNanos();
+		long allocatedBytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - startBytes;
+
+		long operations = (long) REPEATS * values.size();
+		System.out.printf("%-30s %15.1f %15.1f   (result %s)%n", name, elapsedMicros * 1000.0 / operations, (double) allocatedBytes / operations, result);
+	}
+}
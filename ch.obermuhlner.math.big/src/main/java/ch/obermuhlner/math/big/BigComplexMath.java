@@ -157,9 +157,10 @@ public class BigComplexMath {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
 		BigDecimal expRe = BigDecimalMath.exp(x.re, mc);
+		BigDecimal[] sinCosIm = BigDecimalMath.sinCos(x.im, mc);
 		return BigComplex.valueOf(
-				expRe.multiply(BigDecimalMath.cos(x.im, mc), mc).round(mathContext),
-				expRe.multiply(BigDecimalMath.sin(x.im, mc), mc)).round(mathContext);
+				expRe.multiply(sinCosIm[1], mc).round(mathContext),
+				expRe.multiply(sinCosIm[0], mc)).round(mathContext);
 	}
 
 	/**
@@ -173,10 +174,10 @@ public class BigComplexMath {
 	 */
 	public static BigComplex sin(BigComplex x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		
-		return BigComplex.valueOf(
-				BigDecimalMath.sin(x.re, mc).multiply(BigDecimalMath.cosh(x.im, mc), mc).round(mathContext),
-				BigDecimalMath.cos(x.re, mc).multiply(BigDecimalMath.sinh(x.im, mc), mc).round(mathContext));
+
+		BigDecimal[] sinCosRe = BigDecimalMath.sinCos(x.re, mc);
+		BigDecimal[] sinhCoshIm = BigDecimalMath.sinhCosh(x.im, mc);
+		return sin(sinCosRe, sinhCoshIm, mc).round(mathContext);
 	}
 
 	/**
@@ -189,9 +190,23 @@ public class BigComplexMath {
 	public static BigComplex cos(BigComplex x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
+		BigDecimal[] sinCosRe = BigDecimalMath.sinCos(x.re, mc);
+		BigDecimal[] sinhCoshIm = BigDecimalMath.sinhCosh(x.im, mc);
+		return cos(sinCosRe, sinhCoshIm, mc).round(mathContext);
+	}
+
+	// sin(a + bi) = sin(a) cosh(b) + i cos(a) sinh(b)
+	private static BigComplex sin(BigDecimal[] sinCosRe, BigDecimal[] sinhCoshIm, MathContext mc) {
+		return BigComplex.valueOf(
+				sinCosRe[0].multiply(sinhCoshIm[1], mc),
+				sinCosRe[1].multiply(sinhCoshIm[0], mc));
+	}
+
+	// cos(a + bi) = cos(a) cosh(b) - i sin(a) sinh(b)
+	private static BigComplex cos(BigDecimal[] sinCosRe, BigDecimal[] sinhCoshIm, MathContext mc) {
 		return BigComplex.valueOf(
-				BigDecimalMath.cos(x.re, mc).multiply(BigDecimalMath.cosh(x.im, mc), mc).round(mathContext),
-				BigDecimalMath.sin(x.re, mc).multiply(BigDecimalMath.sinh(x.im, mc), mc).negate().round(mathContext));
+				sinCosRe[1].multiply(sinhCoshIm[1], mc),
+				sinCosRe[0].multiply(sinhCoshIm[0], mc).negate());
 	}
 	
 	// 
@@ -207,7 +222,9 @@ public class BigComplexMath {
 	public static BigComplex tan(BigComplex x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
-		return sin(x, mc).divide(cos(x, mc), mc).round(mathContext);
+		BigDecimal[] sinCosRe = BigDecimalMath.sinCos(x.re, mc);
+		BigDecimal[] sinhCoshIm = BigDecimalMath.sinhCosh(x.im, mc);
+		return sin(sinCosRe, sinhCoshIm, mc).divide(cos(sinCosRe, sinhCoshIm, mc), mc).round(mathContext);
 	}
 
 	/**
@@ -358,9 +375,10 @@ public class BigComplexMath {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
 		BigDecimal angleTimesN = x.angle(mc).multiply(y, mc);
+		BigDecimal[] sinCos = BigDecimalMath.sinCos(angleTimesN, mc);
 		return BigComplex.valueOf(
-				BigDecimalMath.cos(angleTimesN, mc),
-				BigDecimalMath.sin(angleTimesN, mc)).multiply(BigDecimalMath.pow(x.abs(mc), y, mc), mc).round(mathContext);
+				sinCos[1],
+				sinCos[0]).multiply(BigDecimalMath.pow(x.abs(mc), y, mc), mc).round(mathContext);
 	}
 
 	/**
@@ -6,13 +6,24 @@ import static java.math.BigDecimal.ZERO;
 import static java.math.BigDecimal.valueOf;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+import ch.obermuhlner.math.big.internal.AdaptivePrecisionIteration;
 import ch.obermuhlner.math.big.internal.AsinCalculator;
+import ch.obermuhlner.math.big.internal.AtanCalculator;
+import ch.obermuhlner.math.big.internal.ConstantCache;
 import ch.obermuhlner.math.big.internal.CosCalculator;
 import ch.obermuhlner.math.big.internal.CoshCalculator;
 import ch.obermuhlner.math.big.internal.ExpCalculator;
+import ch.obermuhlner.math.big.internal.PrimeSwingFactorial;
 import ch.obermuhlner.math.big.internal.SinCalculator;
 import ch.obermuhlner.math.big.internal.SinhCalculator;
 
@@ -23,29 +34,57 @@ public class BigDecimalMath {
 
 	private static final BigDecimal TWO = valueOf(2);
 	private static final BigDecimal THREE = valueOf(3);
+	private static final BigDecimal FOUR = valueOf(4);
 	private static final BigDecimal MINUS_ONE = valueOf(-1);
 	private static final BigDecimal ONE_HALF = valueOf(0.5);
 
 	private static final BigDecimal ONE_HUNDRED_EIGHTY = valueOf(180);
 
+	private static final double LOG10_TWO = Math.log10(2);
+
 	private static final BigDecimal DOUBLE_MAX_VALUE = BigDecimal.valueOf(Double.MAX_VALUE);
 
-	private static volatile BigDecimal log2Cache;
-	private static final Object log2CacheLock = new Object();
+	// log(2), log(3) and log(10) are integer combinations of the same atanh(1/k) values: log(x) = 2 * sum(c_i * atanh(1/k_i))
+	private static final int[] LOG_ATANH_BASIS = { 251, 449, 4801, 8749 };
+	private static final int[] LOG_TWO_ATANH_COEFFICIENTS = { 72, 27, -19, 31 };
+	private static final int[] LOG_THREE_ATANH_COEFFICIENTS = { 114, 43, -30, 49 };
+	private static final int[] LOG_TEN_ATANH_COEFFICIENTS = { 239, 90, -63, 103 };
+
+	private static final ConstantCache piCache = new ConstantCache(BigDecimalMath::piChudnovski);
+	private static final ConstantCache eCache = new ConstantCache(mc -> expBinarySplitting(ONE, mc));
+	private static final ConstantCache[] logAtanhBasisCaches = createLogAtanhBasisCaches();
+	private static final ConstantCache log2Cache = new ConstantCache(mc -> logUsingAtanhBasis(LOG_TWO_ATANH_COEFFICIENTS, mc));
+	private static final ConstantCache log3Cache = new ConstantCache(mc -> logUsingAtanhBasis(LOG_THREE_ATANH_COEFFICIENTS, mc));
+	private static final ConstantCache log10Cache = new ConstantCache(mc -> logUsingAtanhBasis(LOG_TEN_ATANH_COEFFICIENTS, mc));
+	private static final ConstantCache logSqrtTwoPiCache = new ConstantCache(mc -> log(pi(mc).multiply(TWO, mc), mc).multiply(ONE_HALF, mc));
+
+	private static final int EXP_BINARY_SPLITTING_MAX_ARGUMENT_DIGITS = 20;
+	private static final BigDecimal EXP_BINARY_SPLITTING_MAX_ARGUMENT = valueOf(100);
+	private static final int EXP_BINARY_SPLITTING_MAX_DIGITS_PER_PRECISION = 8;
+
+	private static final int LOG_AGM_MIN_PRECISION = 15000;
+
+	private static final int ASIN_NEWTON_MIN_PRECISION = 200;
+	private static final int TRIGONOMETRIC_MULTIPLE_ANGLE_MIN_PRECISION = 100;
+	private static final int TRIGONOMETRIC_SHORT_ARGUMENT_MIN_PRECISION = 150;
+	private static final int TRIGONOMETRIC_DOUBLE_REDUCTION_MAX_DIGITS = 10;
+	private static final double TRIGONOMETRIC_SHORT_ARGUMENT_MIN_DISTANCE = 0.1;
+
+	private static final int SQRT_INTEGER_MIN_PRECISION = 50;
+
+	private static final int SPOUGE_MIN_CONSTANTS_PER_TASK = 16;
 
-	private static volatile BigDecimal log3Cache;
-	private static final Object log3CacheLock = new Object();
+	private static final double STIRLING_MIN_ARGUMENT_PER_DIGIT = 0.5;
 
-	private static volatile BigDecimal log10Cache;
-	private static final Object log10CacheLock = new Object();
+	// limited by the cost of calculating the Bernoulli numbers for the coefficients
+	private static final int STIRLING_MAX_TERMS = 24;
 
-	private static volatile BigDecimal piCache;
-	private static final Object piCacheLock = new Object();
+	private static final int BERNOULLI_ZETA_MIN_INDEX = 100;
 
-	private static volatile BigDecimal eCache;
-	private static final Object eCacheLock = new Object();
+	private static final BigInteger CHUDNOVSKI_C3_OVER_24 = BigInteger.valueOf(640320).pow(3).divide(BigInteger.valueOf(24));
 
 	private static final BigDecimal ROUGHLY_TWO_PI = new BigDecimal("3.141592653589793").multiply(TWO);
+	private static final BigDecimal ROUGHLY_QUARTER_PI = new BigDecimal("0.785398163397448");
 
 	private static final int EXPECTED_INITIAL_PRECISION = 15;
 
@@ -60,8 +99,10 @@ public class BigDecimalMath {
 		}
 	}
 
-	private static final Map<Integer, List<BigDecimal>> spougeFactorialConstantsCache = new HashMap<>();
-	private static final Object spougeFactorialConstantsCacheLock = new Object();
+	private static final ConcurrentMap<Integer, CompletableFuture<List<BigDecimal>>> spougeFactorialConstantsCache = new ConcurrentHashMap<>();
+
+	private static volatile BigRational[] stirlingCoefficients = new BigRational[0];
+	private static final Object stirlingCoefficientsLock = new Object();
 
 	private BigDecimalMath() {
 		// prevent instances
@@ -472,6 +513,9 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 *
 	 * <p>factorial = 1 * 2 * 3 * ... n</p>
 	 *
+	 * <p>Large factorials are calculated with the prime swing algorithm.
+	 * Calculated factorials are cached, the factorial of a slightly larger n is calculated from a cached factorial.</p>
+	 *
 	 * @param n the {@link BigDecimal}
 	 * @return the factorial {@link BigDecimal}
 	 * @throws ArithmeticException if x &lt; 0
@@ -484,35 +528,9 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			return factorialCache[n];
 		}
 
-		BigDecimal result = factorialCache[factorialCache.length - 1];
-		return result.multiply(factorialRecursion(factorialCache.length, n));
+		return new BigDecimal(PrimeSwingFactorial.factorial(n));
 	}
 
-    private static BigDecimal factorialLoop(int n1, final int n2) {
-		final long limit = Long.MAX_VALUE / n2;
-        long accu = 1;
-        BigDecimal result = BigDecimal.ONE;
-        while (n1 <= n2) {
-            if (accu <= limit) {
-                accu *= n1;
-            } else {
-                result = result.multiply(BigDecimal.valueOf(accu));
-                accu = n1;
-            }
-            n1++;
-        }
-        return result.multiply(BigDecimal.valueOf(accu));
-    }
-
-    private static BigDecimal factorialRecursion(final int n1, final int n2) {
-		int threshold = n1 > 200 ? 80 : 150;
-        if (n2 - n1 < threshold) {
-            return factorialLoop(n1, n2);
-        }
-        final int mid = (n1 + n2) >> 1;
-        return factorialRecursion(mid + 1, n2).multiply(factorialRecursion(n1, mid));
-    }
-
 	/**
 	 * Calculates the factorial of the specified {@link BigDecimal}.
 	 *
@@ -543,8 +561,15 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			return round(factorial(x.intValueExact()), mathContext);
 		}
 
-		// https://en.wikipedia.org/wiki/Spouge%27s_approximation
 		checkMathContext(mathContext);
+		if (isStirlingArgument(x, mathContext.getPrecision())) {
+			return factorialUsingStirling(x, mathContext);
+		}
+		return factorialUsingSpouge(x, mathContext);
+	}
+
+	private static BigDecimal factorialUsingSpouge(BigDecimal x, MathContext mathContext) {
+		// https://en.wikipedia.org/wiki/Spouge%27s_approximation
 		MathContext mc = new MathContext(mathContext.getPrecision() << 1, mathContext.getRoundingMode());
 
 		int a = mathContext.getPrecision() * 13 / 10;
@@ -568,31 +593,253 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	}
 
 	static List<BigDecimal> getSpougeFactorialConstants(int a) {
-		synchronized (spougeFactorialConstantsCacheLock) {
-			return spougeFactorialConstantsCache.computeIfAbsent(a, key -> {
-				List<BigDecimal> constants = new ArrayList<>(a);
-				MathContext mc = new MathContext(a * 15 / 10);
-
-				BigDecimal c0 = sqrt(pi(mc).multiply(TWO, mc), mc);
-				constants.add(c0);
-
-				boolean negative = false;
-				for (int k = 1; k < a; k++) {
-					BigDecimal bigK = BigDecimal.valueOf(k);
-					long deltaAK = (long)a - k;
-					BigDecimal ck = pow(BigDecimal.valueOf(deltaAK), bigK.subtract(ONE_HALF), mc);
-					ck = ck.multiply(exp(BigDecimal.valueOf(deltaAK), mc), mc);
-					ck = ck.divide(factorial(k - 1), mc);
-					if (negative) {
-						ck = ck.negate();
-					}
-					constants.add(ck);
-
-					negative = !negative;
+		CompletableFuture<List<BigDecimal>> constants = spougeFactorialConstantsCache.get(a);
+		if (constants == null) {
+			// only one thread calculates the constants for a precision, all other threads wait for its result
+			CompletableFuture<List<BigDecimal>> newConstants = new CompletableFuture<>();
+			constants = spougeFactorialConstantsCache.putIfAbsent(a, newConstants);
+			if (constants == null) {
+				try {
+					newConstants.complete(calculateSpougeFactorialConstants(a));
+				} catch (RuntimeException | Error ex) {
+					spougeFactorialConstantsCache.remove(a, newConstants);
+					newConstants.completeExceptionally(ex);
+					throw ex;
 				}
+				constants = newConstants;
+			}
+		}
+		return constants.join();
+	}
+
+	private static List<BigDecimal> calculateSpougeFactorialConstants(int a) {
+		MathContext mc = new MathContext(a * 15 / 10);
+		// the recurrence inside a range of constants loses about log10(range size) digits
+		MathContext mcRecurrence = new MathContext(mc.getPrecision() + 10);
+
+		BigDecimal[] constants = new BigDecimal[a];
+		constants[0] = sqrt(pi(mc).multiply(TWO, mc), mc);
+
+		BigDecimal e = e(mcRecurrence);
+		int constantsPerTask = Math.max(SPOUGE_MIN_CONSTANTS_PER_TASK, a / (4 * ForkJoinPool.getCommonPoolParallelism()));
+		new SpougeConstantsTask(constants, 1, a, constantsPerTask, e, reciprocal(e, mcRecurrence), mcRecurrence, mc).invoke();
+
+		return Collections.unmodifiableList(Arrays.asList(constants));
+	}
+
+	/**
+	 * Calculates the Spouge constants c<sub>k</sub> = (-1)<sup>k-1</sup> (a-k)<sup>k-1/2</sup> e<sup>a-k</sup> / (k-1)!
+	 * in the range [from, to) by recursively splitting the range into smaller tasks.
+	 *
+	 * <p>Only the first constant of a range calculates e<sup>a-k</sup> / (k-1)! directly,
+	 * the following constants divide it by e*k.</p>
+	 */
+	private static class SpougeConstantsTask extends RecursiveAction {
+		private static final long serialVersionUID = -3265104937715864822L;
+
+		private final BigDecimal[] constants;
+		private final int from;
+		private final int to;
+		private final int constantsPerTask;
+		private final BigDecimal e;
+		private final BigDecimal eReciprocal;
+		private final MathContext mcRecurrence;
+		private final MathContext mc;
+
+		SpougeConstantsTask(BigDecimal[] constants, int from, int to, int constantsPerTask, BigDecimal e, BigDecimal eReciprocal, MathContext mcRecurrence, MathContext mc) {
+			this.constants = constants;
+			this.from = from;
+			this.to = to;
+			this.constantsPerTask = constantsPerTask;
+			this.e = e;
+			this.eReciprocal = eReciprocal;
+			this.mcRecurrence = mcRecurrence;
+			this.mc = mc;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > constantsPerTask) {
+				int mid = (from + to) >>> 1;
+				invokeAll(
+						new SpougeConstantsTask(constants, from, mid, constantsPerTask, e, eReciprocal, mcRecurrence, mc),
+						new SpougeConstantsTask(constants, mid, to, constantsPerTask, e, eReciprocal, mcRecurrence, mc));
+				return;
+			}
+
+			int a = constants.length;
+			BigDecimal expDivFactorial = pow(e, a - from, mcRecurrence).divide(factorial(from - 1), mcRecurrence);
+			for (int k = from; k < to; k++) {
+				BigDecimal deltaAK = BigDecimal.valueOf(a - k);
+				BigDecimal ck = pow(deltaAK, k - 1, mcRecurrence).multiply(sqrt(deltaAK, mcRecurrence), mcRecurrence);
+				ck = ck.multiply(expDivFactorial, mc);
+				constants[k] = (k & 1) == 0 ? ck.negate() : ck;
+
+				expDivFactorial = expDivFactorial.multiply(eReciprocal, mcRecurrence).divide(BigDecimal.valueOf(k), mcRecurrence);
+			}
+		}
+	}
+
+	private static boolean isStirlingArgument(BigDecimal x, int precision) {
+		if (x.signum() <= 0) {
+			return false;
+		}
+		BigDecimal rounded = x.round(MathContext.DECIMAL64);
+		double log10X = exponent(rounded) + Math.log10(mantissa(rounded).doubleValue());
+		return stirlingTermCount(log10X, precision) <= STIRLING_MAX_TERMS;
+	}
+
+	/**
+	 * Estimates the number of terms of the Stirling series for the specified argument and precision.
+	 *
+	 * <p>Uses |B<sub>2k</sub>| ~ 2 (2k)! / (2 pi)<sup>2k</sup>,
+	 * so that the ratio between two terms is about (2k-2) (2k-3) / (2 pi z)<sup>2</sup>.</p>
+	 *
+	 * @return the number of terms, or {@link Integer#MAX_VALUE} if the series starts to diverge before reaching the precision
+	 */
+	private static int stirlingTermCount(double log10Z, int precision) {
+		double log10TwoPiZ = Math.log10(2 * Math.PI) + log10Z;
+		double log10Term = -Math.log10(12) - log10Z;
+		int k = 1;
+		while (log10Term > -(precision + 1)) {
+			k++;
+			double log10Ratio = Math.log10((2.0 * k - 2) * (2.0 * k - 3)) - 2 * log10TwoPiZ;
+			if (log10Ratio >= 0) {
+				return Integer.MAX_VALUE;
+			}
+			log10Term += log10Ratio;
+		}
+		return k;
+	}
 
-				return Collections.unmodifiableList(constants);
-			});
+	private static BigDecimal factorialUsingStirling(BigDecimal x, MathContext mathContext) {
+		// x! = gamma(x+1) = exp(logGamma(x+1))
+		// logGamma(x+1) has about exponent(x) + 4 integer digits that need to be accurate in addition to the precision
+		MathContext mc = new MathContext(mathContext.getPrecision() + Math.max(0, exponent(x)) + 8, mathContext.getRoundingMode());
+		BigDecimal result = exp(logGammaUsingStirling(x.add(ONE), mc), mc);
+		return round(result, mathContext);
+	}
+
+	/**
+	 * Calculates the natural logarithm of the gamma function of the specified {@link BigDecimal}.
+	 *
+	 * <p>This implementation uses the Stirling series
+	 * log(gamma(z)) = (z - 1/2) log(z) - z + log(2 pi) / 2 + sum(B<sub>2k</sub> / (2k (2k-1) z<sup>2k-1</sup>))
+	 * with the Bernoulli numbers B<sub>2k</sub>.
+	 * Smaller arguments are first shifted up with gamma(x) = gamma(x+m) / (x (x+1) ... (x+m-1))
+	 * until the series converges fast enough.</p>
+	 *
+	 * <p>Unlike {@link #gamma(BigDecimal, MathContext)} this never calculates the huge value gamma(x) itself.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Stirling%27s_approximation#Speed_of_convergence_and_error_estimates">Wikipedia: Stirling's approximation - Stirling series</a></p>
+	 *
+	 * @param x the {@link BigDecimal} to calculate the logarithm of the gamma function for
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the calculated log(gamma(x)) {@link BigDecimal} with the precision specified in the <code>mathContext</code>
+	 * @throws ArithmeticException if x &lt;= 0
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #gamma(BigDecimal, MathContext)
+	 */
+	public static BigDecimal logGamma(BigDecimal x, MathContext mathContext) {
+		checkMathContext(mathContext);
+		if (x.signum() <= 0) {
+			throw new ArithmeticException("Illegal logGamma(x) for x <= 0: x = " + x);
+		}
+		if (x.compareTo(ONE) == 0 || x.compareTo(TWO) == 0) {
+			return ZERO;
+		}
+
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+		BigDecimal result = logGammaUsingStirling(x, mc);
+		return round(result, mathContext);
+	}
+
+	/**
+	 * Calculates log(gamma(x)) for x &gt; 0 with a relative error of about 10<sup>-precision</sup>.
+	 *
+	 * <p>Close to the zeros x = 1 and x = 2 the result is small and the leading digits of the series cancel,
+	 * so the series is calculated with as many additional digits as cancelled.</p>
+	 */
+	private static BigDecimal logGammaUsingStirling(BigDecimal x, MathContext mathContext) {
+		int precision = mathContext.getPrecision();
+
+		// log(gamma(x)) is about -0.58 (x - 1) close to 1 and 0.42 (x - 2) close to 2
+		int cancelledDigits = Math.max(digitsCancelledNear(x, ONE), digitsCancelledNear(x, TWO));
+
+		// the smallest term of the series is about exp(-2 pi z), so z must be large enough for the precision
+		long minZ = (long) Math.ceil((precision + cancelledDigits) * STIRLING_MIN_ARGUMENT_PER_DIGIT);
+		int shift = 0;
+		if (x.compareTo(BigDecimal.valueOf(minZ)) < 0) {
+			shift = (int) (minZ - x.longValue());
+		}
+
+		// the intermediate results are about z log(z) while the result can be smaller than 1
+		int guardDigits = Math.max(0, exponent(x.add(BigDecimal.valueOf(shift)))) + cancelledDigits + 4;
+		MathContext mc = new MathContext(precision + guardDigits, mathContext.getRoundingMode());
+
+		BigDecimal z = x;
+		BigDecimal shiftProduct = ONE;
+		for (int i = 0; i < shift; i++) {
+			shiftProduct = shiftProduct.multiply(z, mc);
+			z = z.add(ONE);
+		}
+
+		BigDecimal result = z.subtract(ONE_HALF).multiply(log(z, mc), mc);
+		result = result.subtract(z, mc);
+		result = result.add(logSqrtTwoPiCache.get(mc), mc);
+
+		BigDecimal zReciprocal = reciprocal(z, mc);
+		BigDecimal zReciprocalSquare = zReciprocal.multiply(zReciprocal, mc);
+		BigDecimal acceptableError = ONE.movePointLeft(precision + cancelledDigits + 1);
+		if (result.signum() != 0 && exponent(result) > 0) {
+			acceptableError = acceptableError.movePointRight(exponent(result));
+		}
+
+		BigDecimal power = zReciprocal;
+		BigDecimal sum = ZERO;
+		BigDecimal term;
+		int k = 1;
+		do {
+			BigRational coefficient = getStirlingCoefficient(k);
+			term = coefficient.getNumerator().multiply(power).divide(coefficient.getDenominator(), mc);
+			sum = sum.add(term, mc);
+			power = power.multiply(zReciprocalSquare, mc);
+			k++;
+		} while (term.abs().compareTo(acceptableError) > 0);
+		result = result.add(sum, mc);
+
+		if (shift > 0) {
+			result = result.subtract(log(shiftProduct, mc), mc);
+		}
+		return result;
+	}
+
+	private static int digitsCancelledNear(BigDecimal x, BigDecimal zero) {
+		BigDecimal distance = x.subtract(zero);
+		return distance.signum() != 0 ? Math.max(0, -exponent(distance)) : 0;
+	}
+
+	/**
+	 * Returns the coefficient B<sub>2k</sub> / (2k (2k-1)) of the Stirling series.
+	 */
+	private static BigRational getStirlingCoefficient(int k) {
+		BigRational[] coefficients = stirlingCoefficients;
+		if (k < coefficients.length) {
+			return coefficients[k];
+		}
+
+		synchronized (stirlingCoefficientsLock) {
+			coefficients = stirlingCoefficients;
+			if (k >= coefficients.length) {
+				// grow at least by half so that slowly increasing precisions do not copy the coefficients every time
+				int oldLength = coefficients.length;
+				coefficients = Arrays.copyOf(coefficients, Math.max(k + 1, oldLength + oldLength / 2));
+				for (int i = Math.max(1, oldLength); i < coefficients.length; i++) {
+					coefficients[i] = BigRational.bernoulli(2 * i).divide(2 * i).divide(2 * i - 1).reduce();
+				}
+				stirlingCoefficients = coefficients;
+			}
+			return coefficients[k];
 		}
 	}
 
@@ -620,6 +867,10 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 *
 	 * <p>This function calculates the <strong>first Bernoulli numbers</strong> and therefore <code>bernoulli(1)</code> returns -0.5</p>
 	 * <p>Note that <code>bernoulli(x)</code> for all odd x &gt; 1 returns 0</p>
+	 * <p>If the index is larger than the precision, the Bernoulli number is calculated
+	 * from the Riemann zeta function, which converges very fast for large indices:
+	 * |B(n)| = 2 n! &zeta;(n) / (2&pi;)<sup>n</sup>.
+	 * Otherwise the exact Bernoulli number of {@link BigRational#bernoulli(int)} is rounded.</p>
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Bernoulli_number">Wikipedia: Bernoulli number</a></p>
 	 *
 	 * @param n the index of the Bernoulli number to be calculated (starting at 0)
@@ -635,11 +886,37 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		if (n < 0) {
 			throw new ArithmeticException("Illegal bernoulli(n) for n < 0: n = " + n);
 		}
+		if (n >= BERNOULLI_ZETA_MIN_INDEX && n % 2 == 0 && mathContext.getPrecision() != 0 && n > mathContext.getPrecision()) {
+			return bernoulliUsingZeta(n, mathContext);
+		}
 		
 		BigRational b = BigRational.bernoulli(n);
 		return b.toBigDecimal(mathContext);
 	}
 
+	private static BigDecimal bernoulliUsingZeta(int n, MathContext mathContext) {
+		// the relative error of (2 pi)^n is n times the relative error of 2 pi
+		MathContext mc = new MathContext(mathContext.getPrecision() + String.valueOf(n).length() + 6, mathContext.getRoundingMode());
+		BigDecimal acceptableError = ONE.movePointLeft(mc.getPrecision() + 1);
+
+		// zeta(n) = 1 + 1/2^n + 1/3^n + ... needs only a few terms because n is larger than the precision
+		BigDecimal zeta = ONE;
+		for (int m = 2; ; m++) {
+			BigDecimal term = pow(valueOf(m), -n, mc);
+			if (term.compareTo(acceptableError) < 0) {
+				break;
+			}
+			zeta = zeta.add(term, mc);
+		}
+
+		BigDecimal twoPiPower = pow(pi(mc).multiply(TWO, mc), n, mc);
+		BigDecimal result = factorial(n).multiply(TWO).multiply(zeta, mc).divide(twoPiPower, mc);
+		if (n % 4 == 0) {
+			result = result.negate();
+		}
+		return round(result, mathContext);
+	}
+
 	/**
 	 * Calculates {@link BigDecimal} x to the power of {@link BigDecimal} y (x<sup>y</sup>).
 	 * 
@@ -659,8 +936,6 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			}
 		}
 
-		// TODO optimize y=0, y=1, y=10^k, y=-1, y=-10^k
-
 		try {
 			long longValue = y.longValueExact();
 			return pow(x, longValue, mathContext);
@@ -669,7 +944,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		}
 		
 		if (fractionalPart(y).signum() == 0) {
-			return powInteger(x, y, mathContext);
+			return powInteger(x, y.toBigInteger(), mathContext);
 		}
 
 		// x^y = exp(y*log(x))
@@ -682,7 +957,10 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	/**
 	 * Calculates {@link BigDecimal} x to the power of <code>long</code> y (x<sup>y</sup>).
 	 * 
-	 * <p>The implementation tries to minimize the number of multiplications of {@link BigDecimal x} (using squares whenever possible).</p>
+	 * <p>The implementation tries to minimize the number of multiplications of {@link BigDecimal x} (using squares whenever possible
+	 * and multiplying windows of several bits of y at once).</p>
+	 *
+	 * <p>The exponents 0, 1 and -1 as well as x being a power of ten are calculated directly.</p>
 	 * 
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Exponentiation#Efficient_computation_with_integer_exponents">Wikipedia: Exponentiation - efficient computation</a></p>
 	 * 
@@ -699,76 +977,116 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 *         {@code BigDecimal}  operation would require rounding.
 	 */
 	public static BigDecimal pow(BigDecimal x, long y, MathContext mathContext) {
-		MathContext mc = mathContext.getPrecision() == 0 ? mathContext : new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
-
-		// TODO optimize y=0, y=1, y=10^k, y=-1, y=-10^k
-
-		if (y < 0) {
-			BigDecimal value = reciprocal(pow(x, -y, mc), mc);
-			return round(value, mathContext);
+		if (y == 0) {
+			return round(ONE, mathContext);
 		}
-		
-		BigDecimal result = ONE;
-		while (y > 0) {
-			if ((y & 1) == 1) {
-				// odd exponent -> multiply result with x
-				result = result.multiply(x, mc);
-				y -= 1;
-			}
-			
-			if (y > 0) {
-				// even exponent -> square x
-				x = x.multiply(x, mc);
+		if (y == 1) {
+			return round(x, mathContext);
+		}
+		if (y == -1) {
+			return reciprocal(x, mathContext);
+		}
+
+		BigInteger unscaledValue = x.unscaledValue();
+		if (unscaledValue.abs().equals(BigInteger.ONE)) {
+			// x = +/-10^k -> only the scale changes
+			long scale = x.scale() == 0 ? 0 : y >= Integer.MIN_VALUE && y <= Integer.MAX_VALUE ? (long) x.scale() * y : Long.MAX_VALUE;
+			if (scale >= Integer.MIN_VALUE && scale <= Integer.MAX_VALUE) {
+				BigInteger sign = unscaledValue.signum() < 0 && (y & 1) == 1 ? BigInteger.ONE.negate() : BigInteger.ONE;
+				return round(new BigDecimal(sign, (int) scale), mathContext);
 			}
-			
-			y >>= 1;
 		}
 
-		return round(result, mathContext);
+		return powInteger(x, BigInteger.valueOf(y), mathContext);
 	}
 
 	/**
 	 * Calculates {@link BigDecimal} x to the power of the integer value y (x<sup>y</sup>).
-	 * 
-	 * <p>The value y MUST be an integer value.</p>
-	 * 
+	 *
+	 * <p>The exponent is only used as a sequence of bits, so exponents outside of the <code>long</code> range
+	 * cost no more bookkeeping than the multiplications themselves.</p>
+	 *
 	 * @param x the {@link BigDecimal} value to take to the power
-	 * @param integerY the {@link BigDecimal} <strong>integer</strong> value to serve as exponent
+	 * @param y the {@link BigInteger} value to serve as exponent
 	 * @param mathContext the {@link MathContext} used for the result
 	 * @return the calculated x to the power of y with the precision specified in the <code>mathContext</code>
 	 * @see #pow(BigDecimal, long, MathContext)
 	 */
-	private static BigDecimal powInteger(BigDecimal x, BigDecimal integerY, MathContext mathContext) {
-		if (fractionalPart(integerY).signum() != 0) {
-			throw new IllegalArgumentException("Not integer value: " + integerY);
+	private static BigDecimal powInteger(BigDecimal x, BigInteger y, MathContext mathContext) {
+		if (y.signum() == 0) {
+			return round(ONE, mathContext);
 		}
-		
-		if (integerY.signum() < 0) {
-			return ONE.divide(powInteger(x, integerY.negate(), mathContext), mathContext);
+
+		// every multiplication adds a rounding error that is amplified by the remaining exponent
+		// -> the relative error grows with y, so log10(|y|) guard digits are needed
+		long guardDigits = y.abs().bitLength() * 3L / 10 + 4;
+		MathContext mc = mathContext.getPrecision() == 0 ? mathContext : new MathContext((int) Math.min(mathContext.getPrecision() + guardDigits, Integer.MAX_VALUE), mathContext.getRoundingMode());
+
+		if (y.signum() < 0) {
+			BigDecimal value = powSlidingWindow(x, y.negate(), mc);
+			return round(reciprocal(value, mc), mathContext);
 		}
 
-		MathContext mc = new MathContext(Math.max(mathContext.getPrecision(), -integerY.scale()) + 30, mathContext.getRoundingMode());
+		return round(powSlidingWindow(x, y, mc), mathContext);
+	}
+
+	/**
+	 * Calculates x<sup>y</sup> for a positive y using sliding window exponentiation.
+	 *
+	 * <p>The bits of y are scanned from the most significant bit.
+	 * Windows of up to <code>windowSize</code> bits that end with a one bit are multiplied
+	 * at once using a table of the odd powers x<sup>1</sup>, x<sup>3</sup>, ... x<sup>2<sup>windowSize</sup>-1</sup>.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Exponentiation_by_squaring#Sliding-window_method">Wikipedia: Exponentiation by squaring - Sliding-window method</a></p>
+	 */
+	private static BigDecimal powSlidingWindow(BigDecimal x, BigInteger y, MathContext mc) {
+		if (mc.getPrecision() != 0) {
+			x = x.round(mc);
+		}
 
-		BigDecimal result = ONE;
-		while (integerY.signum() > 0) {
-			BigDecimal halfY = integerY.divide(TWO, mc);
-
-			if (fractionalPart(halfY).signum() != 0) {
-				// odd exponent -> multiply result with x
-				result = result.multiply(x, mc);
-				integerY = integerY.subtract(ONE);
-				halfY = integerY.divide(TWO, mc);
+		int bits = y.bitLength();
+		int windowSize = bits <= 8 ? 1 : bits <= 24 ? 2 : bits <= 48 ? 3 : bits <= 160 ? 4 : bits <= 480 ? 5 : 6;
+
+		BigDecimal[] oddPowers = new BigDecimal[1 << (windowSize - 1)];
+		oddPowers[0] = x;
+		if (oddPowers.length > 1) {
+			BigDecimal xSquare = x.multiply(x, mc);
+			for (int i = 1; i < oddPowers.length; i++) {
+				oddPowers[i] = oddPowers[i - 1].multiply(xSquare, mc);
 			}
-			
-			if (halfY.signum() > 0) {
-				// even exponent -> square x
-				x = x.multiply(x, mc);
+		}
+
+		BigDecimal result = null;
+		int bitIndex = bits - 1;
+		while (bitIndex >= 0) {
+			if (!y.testBit(bitIndex)) {
+				result = result.multiply(result, mc);
+				bitIndex--;
+			} else {
+				// longest window (at most windowSize bits) that ends with a one bit
+				int windowEnd = Math.max(bitIndex - windowSize + 1, 0);
+				while (!y.testBit(windowEnd)) {
+					windowEnd++;
+				}
+				int windowLength = bitIndex - windowEnd + 1;
+				int windowValue = 0;
+				for (int i = bitIndex; i >= windowEnd; i--) {
+					windowValue = (windowValue << 1) | (y.testBit(i) ? 1 : 0);
+				}
+
+				if (result == null) {
+					result = oddPowers[windowValue >>> 1];
+				} else {
+					for (int i = 0; i < windowLength; i++) {
+						result = result.multiply(result, mc);
+					}
+					result = result.multiply(oddPowers[windowValue >>> 1], mc);
+				}
+				bitIndex = windowEnd - 1;
 			}
-			
-			integerY = halfY;
 		}
 
-		return round(result, mathContext);
+		return result;
 	}
 
 	/**
@@ -791,41 +1109,98 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			throw new ArithmeticException("Illegal sqrt(x) for x < 0: x = " + x);
 		}
 
-		int maxPrecision = mathContext.getPrecision() + 6;
-		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
 		BigDecimal result;
-		int adaptivePrecision;
-		if (isDoubleValue(x)) {
-			result = BigDecimal.valueOf(Math.sqrt(x.doubleValue()));
-			adaptivePrecision = EXPECTED_INITIAL_PRECISION;
+		double doubleX = x.doubleValue();
+		if (doubleX > 0.0 && isDoubleValue(x)) {
+			result = BigDecimal.valueOf(Math.sqrt(doubleX));
 		} else {
-			result = x.multiply(ONE_HALF, mathContext);
-			adaptivePrecision = 1;
+			// outside of the double range - estimate with the mantissa scaled by an even power of ten
+			int halfExponent = exponent(x) / 2;
+			double scaledX = x.movePointLeft(halfExponent * 2).round(MathContext.DECIMAL64).doubleValue();
+			result = BigDecimal.valueOf(Math.sqrt(scaledX)).movePointRight(halfExponent);
 		}
 		
-		BigDecimal last;
-
-		if (adaptivePrecision < maxPrecision) {
+		if (EXPECTED_INITIAL_PRECISION < mc.getPrecision()) {
 			if (result.multiply(result).compareTo(x) == 0) {
 				return round(result, mathContext); // early exit if x is a square number
 			}
 
-			do {
-				last = result;
-				adaptivePrecision <<= 1;
-				if (adaptivePrecision > maxPrecision) {
-					adaptivePrecision = maxPrecision;
-				}
-				MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
-				result = x.divide(result, mc).add(last).multiply(ONE_HALF, mc);
+			if (mc.getPrecision() >= SQRT_INTEGER_MIN_PRECISION) {
+				result = sqrtUsingIntegerSqrt(x, mc);
+			} else {
+				// r' = r + (x/r - r) / 2
+				result = AdaptivePrecisionIteration.iterate(result, EXPECTED_INITIAL_PRECISION, 2, mc,
+						(r, stepMathContext) -> x.divide(r, stepMathContext).subtract(r).multiply(ONE_HALF, stepMathContext));
 			}
-			while (adaptivePrecision < maxPrecision || result.subtract(last).abs().compareTo(acceptableError) > 0);
 		}
 
 		return round(result, mathContext);
 	}
 
+	/**
+	 * Calculates sqrt(x) from the integer square root of x * 10^(2s), which has one digit more than the precision.
+	 */
+	private static BigDecimal sqrtUsingIntegerSqrt(BigDecimal x, MathContext mathContext) {
+		// sqrt(x) = sqrt(x / 10^(2k)) * 10^k
+		int halfExponent = exponent(x) / 2;
+		BigDecimal normalized = x.movePointLeft(halfExponent * 2);
+
+		int integerDigits = normalized.precision() - normalized.scale();
+		int s = (mathContext.getPrecision() * 2 + 2 - integerDigits + 1) / 2;
+
+		BigInteger n = normalized.movePointRight(2 * s).toBigInteger();
+		return new BigDecimal(sqrtFloor(n), s - halfExponent);
+	}
+
+	/**
+	 * Calculates the integer square root floor(sqrt(n)) of n &gt; 0.
+	 *
+	 * <p>The reciprocal square root y = 1/sqrt(a) of the normalized a = n / 2^(2t) in [1/4, 1) is calculated
+	 * in binary fixed point arithmetic with the Newton iteration y' = y + y (1 - a y^2) / 2,
+	 * which only needs multiplications and shifts.
+	 * The precision doubles in every step, then sqrt(n) = n * y / 2^t is corrected to the exact integer square root.</p>
+	 */
+	private static BigInteger sqrtFloor(BigInteger n) {
+		int t = (n.bitLength() + 1) / 2;
+		int finalBits = t + 8;
+
+		// initial approximation of y with 48 correct bits from double
+		int bits = 48;
+		double a = n.shiftRight(Math.max(0, 2 * t - 60)).doubleValue() / Math.pow(2, Math.min(2 * t, 60));
+		BigInteger y = BigInteger.valueOf((long) (Math.pow(2, bits) / Math.sqrt(a)));
+
+		while (bits < finalBits) {
+			int nextBits = Math.min(2 * bits - 4, finalBits);
+			y = y.shiftLeft(nextBits - bits);
+			bits = nextBits;
+
+			// a as fixed point number with 'bits' fractional bits
+			BigInteger aFixed = n.shiftRight(2 * t - bits);
+			// y' = y + y * (1 - a * y^2) / 2 with a = aFixed / 2^bits, y = y / 2^bits
+			BigInteger ySquare = y.multiply(y).shiftRight(bits);
+			BigInteger residual = BigInteger.ONE.shiftLeft(bits).subtract(aFixed.multiply(ySquare).shiftRight(bits));
+			y = y.add(y.multiply(residual).shiftRight(bits + 1));
+		}
+
+		// only the upper bits of n contribute to n * y / 2^t
+		int truncatedBits = Math.max(0, t - 16);
+		BigInteger result = n.shiftRight(truncatedBits).multiply(y).shiftRight(t + bits - truncatedBits);
+
+		// correct the last bits using the remainder n - result^2
+		BigInteger remainder = n.subtract(result.multiply(result));
+		while (remainder.signum() < 0) {
+			result = result.subtract(BigInteger.ONE);
+			remainder = remainder.add(result.shiftLeft(1)).add(BigInteger.ONE);
+		}
+		while (remainder.compareTo(result.shiftLeft(1)) > 0) {
+			remainder = remainder.subtract(result.shiftLeft(1)).subtract(BigInteger.ONE);
+			result = result.add(BigInteger.ONE);
+		}
+		return result;
+	}
+
 	/**
 	 * Calculates the n'th root of {@link BigDecimal} x.
 	 * 
@@ -855,6 +1230,10 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 				throw new ArithmeticException("Illegal root(x, n) for x < 0: x = " + x);
 		}
 
+		if (isIntValue(n)) {
+			return rootInteger(x, n.intValueExact(), mathContext);
+		}
+
 		if (isDoubleValue(x) && isDoubleValue(n)) {
 			double initialResult = Math.pow(x.doubleValue(), 1.0 / n.doubleValue());
 			if (Double.isFinite(initialResult)) {
@@ -867,32 +1246,50 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		return pow(x, BigDecimal.ONE.divide(n, mc), mathContext);
 	}
 
+	/**
+	 * Calculates the n'th root of x &gt; 0 for an integer n &gt; 0.
+	 *
+	 * <p>The argument is scaled by a power of 10^n into [1, 10^n), so that the initial guess can be calculated with double
+	 * for any magnitude of x, and the Newton iteration only needs {@link #pow(BigDecimal, long, MathContext)}.</p>
+	 */
+	private static BigDecimal rootInteger(BigDecimal x, int n, MathContext mathContext) {
+		if (n == 1) {
+			return round(x, mathContext);
+		}
+		if (n == 2) {
+			return sqrt(x, mathContext);
+		}
+
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		// root(x, n) = root(x / 10^(k*n), n) * 10^k
+		int exponent = exponent(x);
+		int k = Math.floorDiv(exponent, n);
+		BigDecimal scaledX = x.movePointLeft(k * n).round(mc);
+
+		double mantissa = mantissa(scaledX).round(MathContext.DECIMAL64).doubleValue();
+		double initialResult = Math.pow(10, (Math.log10(mantissa) + exponent(scaledX)) / n);
+
+		// r' = r + (x/r^(n-1) - r) / n
+		BigDecimal bigN = valueOf(n);
+		BigDecimal result = AdaptivePrecisionIteration.iterate(BigDecimal.valueOf(initialResult), EXPECTED_INITIAL_PRECISION, 2, mc,
+				(r, stepMathContext) -> scaledX.divide(pow(r, n - 1, stepMathContext), stepMathContext).subtract(r).divide(bigN, stepMathContext));
+
+		return round(result.movePointRight(k), mathContext);
+	}
+
 	private static BigDecimal rootUsingNewtonRaphson(BigDecimal x, BigDecimal n, BigDecimal initialResult, MathContext mathContext) {
 		if (n.compareTo(BigDecimal.ONE) <= 0) {
 			MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 			return pow(x, BigDecimal.ONE.divide(n, mc), mathContext);
 		}
 
-		int maxPrecision = mathContext.getPrecision() * 2;
-		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
+		// r' = r + (x/r^(n-1) - r) / n
 		BigDecimal nMinus1 = n.subtract(ONE);
-		BigDecimal result = initialResult;
-		int adaptivePrecision = 12;
-
-		if (adaptivePrecision < maxPrecision) {
-			BigDecimal step;
-			do {
-				adaptivePrecision *= 3;
-				if (adaptivePrecision > maxPrecision) {
-					adaptivePrecision = maxPrecision;
-				}
-				MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
-
-				step = x.divide(pow(result, nMinus1, mc), mc).subtract(result).divide(n, mc);
-				result = result.add(step);
-			} while (adaptivePrecision < maxPrecision || step.abs().compareTo(acceptableError) > 0);
-		}
+		BigDecimal result = AdaptivePrecisionIteration.iterate(initialResult, EXPECTED_INITIAL_PRECISION, 2, mc,
+				(r, stepMathContext) -> x.divide(pow(r, nMinus1, stepMathContext), stepMathContext).subtract(r).divide(n, stepMathContext));
 
 		return round(result, mathContext);
 	}
@@ -916,6 +1313,9 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		if (x.compareTo(ONE) == 0) {
 			return ZERO;
 		}
+		if (mathContext.getPrecision() >= LOG_AGM_MIN_PRECISION) {
+			return round(logUsingAgm(x, mathContext), mathContext);
+		}
 		
 		BigDecimal result;
 		switch (x.compareTo(TEN)) {
@@ -966,41 +1366,68 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		return round(result, mathContext);
 	}
 	
+	private static BigDecimal logUsingAgm(BigDecimal x, MathContext mathContext) {
+		// https://en.wikipedia.org/wiki/Natural_logarithm in chapter 'High Precision'
+		// log(x) = pi / (2 * agm(1, 4/s)) - m * log(2) with s = x * 2^m > 2^(p/2)
+
+		// the result is the difference of two values of magnitude log(s), for x close to 1 the leading digits cancel
+		int cancelledDigits = (int) Math.log10(mathContext.getPrecision()) + 1;
+		BigDecimal xMinusOne = x.subtract(ONE);
+		if (exponent(xMinusOne) < 0) {
+			cancelledDigits -= exponent(xMinusOne);
+		}
+		MathContext mc = new MathContext(mathContext.getPrecision() + cancelledDigits + 6, mathContext.getRoundingMode());
+
+		int m = Math.max(0, (int) Math.ceil(mc.getPrecision() / 2.0 / LOG10_TWO - (exponent(x) + 1) / LOG10_TWO) + 1);
+		BigDecimal s = x.multiply(TWO.pow(m));
+
+		// the agm converges quadratically - once a and b agree to half the precision the next arithmetic mean is accurate enough
+		BigDecimal a = ONE;
+		BigDecimal b = FOUR.divide(s, mc);
+		BigDecimal acceptableError = ONE.movePointLeft(mc.getPrecision() / 2 + 1);
+		while (a.subtract(b).abs().compareTo(a.multiply(acceptableError)) > 0) {
+			BigDecimal nextA = a.add(b).multiply(ONE_HALF, mc);
+			b = sqrt(a.multiply(b, mc), mc);
+			a = nextA;
+		}
+		a = a.add(b).multiply(ONE_HALF, mc);
+
+		BigDecimal result = pi(mc).divide(TWO.multiply(a), mc);
+		if (m > 0) {
+			result = result.subtract(logTwo(mc).multiply(valueOf(m), mc));
+		}
+		return round(result, mathContext);
+	}
+
 	private static BigDecimal logUsingNewton(BigDecimal x, MathContext mathContext) {
 		// https://en.wikipedia.org/wiki/Natural_logarithm in chapter 'High Precision'
 		// y = y + 2 * (x-exp(y)) / (x+exp(y))
 
-		int maxPrecision = mathContext.getPrecision() + 20;
-		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
-		//System.out.println("logUsingNewton(" + x + " " + mathContext + ") precision " + maxPrecision);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		// for x close to 1 the result is small and the leading digits of x - exp(y) cancel
+		BigDecimal xMinusOne = x.subtract(ONE);
+		int cancelledDigits = xMinusOne.signum() != 0 ? Math.max(0, -exponent(xMinusOne)) : 0;
 
 		BigDecimal result;
-		int adaptivePrecision;
+		int initialPrecision;
 		double doubleX = x.doubleValue();
 		if (doubleX > 0.0 && isDoubleValue(x)) {
-			result = BigDecimal.valueOf(Math.log(doubleX));
-			adaptivePrecision = EXPECTED_INITIAL_PRECISION;
+			double doubleXMinusOne = xMinusOne.doubleValue();
+			result = BigDecimal.valueOf(Math.abs(doubleXMinusOne) < 0.5 ? Math.log1p(doubleXMinusOne) : Math.log(doubleX));
+			initialPrecision = EXPECTED_INITIAL_PRECISION;
 		} else {
 			result = x.divide(TWO, mathContext);
-			adaptivePrecision = 1;
+			initialPrecision = 1;
 		}
 
-		BigDecimal step;
-		
-		do {
-			adaptivePrecision *= 3;
-			if (adaptivePrecision > maxPrecision) {
-				adaptivePrecision = maxPrecision;
-			}
-			MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
-			
-			BigDecimal expY = BigDecimalMath.exp(result, mc);
-			step = TWO.multiply(x.subtract(expY)).divide(x.add(expY), mc);
-			//System.out.println("  step " + step + " adaptivePrecision=" + adaptivePrecision);
-			result = result.add(step);
-		} while (adaptivePrecision < maxPrecision || step.abs().compareTo(acceptableError) > 0);
-
-		return result;
+		// the Halley iteration for exp(y) - x converges cubically
+		return AdaptivePrecisionIteration.iterate(result, initialPrecision, 3, mc,
+				(y, stepMathContext) -> {
+					MathContext cancellationMathContext = new MathContext(stepMathContext.getPrecision() + cancelledDigits, stepMathContext.getRoundingMode());
+					BigDecimal expY = BigDecimalMath.exp(y, cancellationMathContext);
+					return TWO.multiply(x.subtract(expY)).divide(x.add(expY), stepMathContext);
+				});
 	}
 
 	private static BigDecimal logUsingExponent(BigDecimal x, MathContext mathContext) {
@@ -1142,62 +1569,59 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 */
 	public static BigDecimal pi(MathContext mathContext) {
 		checkMathContext(mathContext);
-		BigDecimal result = null;
-		
-		synchronized (piCacheLock) {
-			if (piCache != null && mathContext.getPrecision() <= piCache.precision()) {
-				result = piCache;
-			} else {
-				piCache = piChudnovski(mathContext);
-				return piCache;
-			}
-		}
-
-		return round(result, mathContext);
+		return piCache.get(mathContext);
 	}
 
 	private static BigDecimal piChudnovski(MathContext mathContext) {
+		// https://en.wikipedia.org/wiki/Chudnovsky_algorithm using binary splitting
 		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
 
-		final BigDecimal value24 = BigDecimal.valueOf(24);
-		final BigDecimal value640320 = BigDecimal.valueOf(640320);
-		final BigDecimal value13591409 = BigDecimal.valueOf(13591409);
-		final BigDecimal value545140134 = BigDecimal.valueOf(545140134);
-		final BigDecimal valueDivisor = value640320.pow(3).divide(value24, mc);
+		// every term adds roughly 14 digits
+		long iterationCount = (mc.getPrecision() + 13) / 14 + 1;
+		BigInteger[] pqr = piChudnovskiBinarySplit(1, iterationCount);
+		BigInteger q = pqr[1];
+		BigInteger r = pqr[2];
 
-		BigDecimal sumA = BigDecimal.ONE;
-		BigDecimal sumB = BigDecimal.ZERO;
-
-		BigDecimal a = BigDecimal.ONE;
-		long dividendTerm1 = 5; // -(6*k - 5)
-		long dividendTerm2 = -1; // 2*k - 1
-		long dividendTerm3 = -1; // 6*k - 1
-		BigDecimal kPower3 = BigDecimal.ZERO;
-		
-		long iterationCount = (mc.getPrecision()+13) / 14;
-		for (long k = 1; k <= iterationCount; k++) {
-			BigDecimal valueK = BigDecimal.valueOf(k);
-			dividendTerm1 += -6;
-			dividendTerm2 += 2;
-			dividendTerm3 += 6;
-			BigDecimal dividend = BigDecimal.valueOf(dividendTerm1).multiply(BigDecimal.valueOf(dividendTerm2)).multiply(BigDecimal.valueOf(dividendTerm3));
-			kPower3 = valueK.pow(3);
-			BigDecimal divisor = kPower3.multiply(valueDivisor, mc);
-			a = a.multiply(dividend).divide(divisor, mc);
-			BigDecimal b = valueK.multiply(a, mc);
-			
-			sumA = sumA.add(a);
-			sumB = sumB.add(b);
-		}
-		
-		final BigDecimal value426880 = BigDecimal.valueOf(426880);
-		final BigDecimal value10005 = BigDecimal.valueOf(10005);
-		final BigDecimal factor = value426880.multiply(sqrt(value10005, mc));
-		BigDecimal pi = factor.divide(value13591409.multiply(sumA, mc).add(value545140134.multiply(sumB, mc)), mc);
+		BigDecimal factor = BigDecimal.valueOf(426880).multiply(sqrt(BigDecimal.valueOf(10005), mc), mc);
+		BigDecimal numerator = factor.multiply(new BigDecimal(q), mc);
+		BigDecimal denominator = new BigDecimal(q.multiply(BigInteger.valueOf(13591409)).add(r));
+		BigDecimal pi = numerator.divide(denominator, mc);
 
 		return round(pi, mathContext);
 	}
 
+	/**
+	 * Calculates the terms P, Q and R of the Chudnovsky series in the range [a, b) using binary splitting.
+	 *
+	 * <p>The terms are calculated exactly as {@link BigInteger}s so that the full precision
+	 * division is only needed once at the end.</p>
+	 *
+	 * @param a the first term (inclusive)
+	 * @param b the last term (exclusive)
+	 * @return the array containing P(a, b), Q(a, b) and R(a, b)
+	 */
+	private static BigInteger[] piChudnovskiBinarySplit(long a, long b) {
+		if (b - a == 1) {
+			BigInteger p = BigInteger.valueOf(6 * a - 5)
+					.multiply(BigInteger.valueOf(2 * a - 1))
+					.multiply(BigInteger.valueOf(6 * a - 1))
+					.negate();
+			BigInteger bigA = BigInteger.valueOf(a);
+			BigInteger q = bigA.multiply(bigA).multiply(bigA).multiply(CHUDNOVSKI_C3_OVER_24);
+			BigInteger r = p.multiply(BigInteger.valueOf(545140134).multiply(bigA).add(BigInteger.valueOf(13591409)));
+			return new BigInteger[] { p, q, r };
+		}
+
+		long m = (a + b) >>> 1;
+		BigInteger[] left = piChudnovskiBinarySplit(a, m);
+		BigInteger[] right = piChudnovskiBinarySplit(m, b);
+
+		BigInteger p = left[0].multiply(right[0]);
+		BigInteger q = left[1].multiply(right[1]);
+		BigInteger r = right[1].multiply(left[2]).add(left[0].multiply(right[2]));
+		return new BigInteger[] { p, q, r };
+	}
+
 	/**
 	 * Returns the number e.
 	 * 
@@ -1209,63 +1633,113 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 */
 	public static BigDecimal e(MathContext mathContext) {
 		checkMathContext(mathContext);
-		BigDecimal result = null;
-		
-		synchronized (eCacheLock) {
-			if (eCache != null && mathContext.getPrecision() <= eCache.precision()) {
-				result = eCache;
-			} else {
-				eCache = exp(ONE, mathContext);
-				return eCache;
-			}
-		}
-
-		return round(result, mathContext);
+		return eCache.get(mathContext);
 	}
-	
+
 	private static BigDecimal logTen(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log10CacheLock) {
-			if (log10Cache != null && mathContext.getPrecision() <= log10Cache.precision()) {
-				result = log10Cache;
-			} else {
-				log10Cache = logUsingNewton(BigDecimal.TEN, mathContext);
-				return log10Cache;
-			}
+		return log10Cache.get(mathContext);
+	}
+
+	private static ConstantCache[] createLogAtanhBasisCaches() {
+		ConstantCache[] caches = new ConstantCache[LOG_ATANH_BASIS.length];
+		for (int i = 0; i < caches.length; i++) {
+			int k = LOG_ATANH_BASIS[i];
+			caches[i] = new ConstantCache(mc -> atanhOfReciprocal(k, mc));
 		}
+		return caches;
+	}
 
-		return round(result, mathContext);
+	private static BigDecimal logUsingAtanhBasis(int[] coefficients, MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		BigDecimal result = ZERO;
+		for (int i = 0; i < coefficients.length; i++) {
+			result = result.add(logAtanhBasisCaches[i].get(mc).multiply(valueOf(coefficients[i])));
+		}
+		return round(result.multiply(TWO), mathContext);
 	}
-	
-	private static BigDecimal logTwo(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log2CacheLock) {
-			if (log2Cache != null && mathContext.getPrecision() <= log2Cache.precision()) {
-				result = log2Cache;
-			} else {
-				log2Cache = logUsingNewton(TWO, mathContext);
-				return log2Cache;
-			}
+
+	private static BigDecimal atanhOfReciprocal(int k, MathContext mathContext) {
+		// atanh(1/k) = sum(1 / ((2n+1) * k^(2n+1))) is summed exactly with binary splitting, only the final division is rounded
+		long termCount = (long) Math.ceil((mathContext.getPrecision() + 2) / (2 * Math.log10(k))) + 1;
+		BigInteger bigK = BigInteger.valueOf(k);
+		BigInteger[] qbt = atanhOfReciprocalBinarySplit(bigK, bigK.multiply(bigK), 0, termCount);
+		BigInteger q = qbt[0];
+		BigInteger b = qbt[1];
+		BigInteger t = qbt[2];
+
+		return new BigDecimal(t).divide(new BigDecimal(q.multiply(b)), mathContext);
+	}
+
+	private static BigInteger[] atanhOfReciprocalBinarySplit(BigInteger k, BigInteger kSquare, long a, long b) {
+		if (b - a == 1) {
+			BigInteger q = a == 0 ? k : kSquare;
+			return new BigInteger[] { q, BigInteger.valueOf(2 * a + 1), BigInteger.ONE };
 		}
 
-		return round(result, mathContext);
+		long m = (a + b) >>> 1;
+		BigInteger[] left = atanhOfReciprocalBinarySplit(k, kSquare, a, m);
+		BigInteger[] right = atanhOfReciprocalBinarySplit(k, kSquare, m, b);
+
+		BigInteger q = left[0].multiply(right[0]);
+		BigInteger bb = left[1].multiply(right[1]);
+		BigInteger t = right[1].multiply(right[0]).multiply(left[2]).add(left[1].multiply(right[2]));
+		return new BigInteger[] { q, bb, t };
+	}
+
+	private static BigDecimal logTwo(MathContext mathContext) {
+		return log2Cache.get(mathContext);
 	}
 
 	private static BigDecimal logThree(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log3CacheLock) {
-			if (log3Cache != null && mathContext.getPrecision() <= log3Cache.precision()) {
-				result = log3Cache;
-			} else {
-				log3Cache = logUsingNewton(THREE, mathContext);
+		return log3Cache.get(mathContext);
+	}
+
+	/**
+	 * Returns the precision of the cached value of the specified constant.
+	 *
+	 * <p>Requests for this constant with this or a lower precision will be answered from the cache
+	 * without any calculation and without any locking.</p>
+	 *
+	 * @param constant the {@link CachedConstant}
+	 * @return the cached precision, 0 if the constant has not been calculated yet
+	 * @see #ensureCachedPrecision(CachedConstant, MathContext)
+	 */
+	public static int getCachedPrecision(CachedConstant constant) {
+		return getConstantCache(constant).getPrecision();
+	}
+
+	/**
+	 * Makes sure that the specified constant is cached with at least the precision specified in the {@link MathContext}.
+	 *
+	 * <p>This is useful to calculate the constants with the standard precision of your application during the startup phase,
+	 * so that later calls (for example to {@link #log(BigDecimal, MathContext)} or {@link #sin(BigDecimal, MathContext)})
+	 * do not need to calculate them.</p>
+	 *
+	 * @param constant the {@link CachedConstant}
+	 * @param mathContext the {@link MathContext} specifying the precision to cache
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #getCachedPrecision(CachedConstant)
+	 */
+	public static void ensureCachedPrecision(CachedConstant constant, MathContext mathContext) {
+		checkMathContext(mathContext);
+		getConstantCache(constant).ensurePrecision(mathContext.getPrecision());
+	}
+
+	private static ConstantCache getConstantCache(CachedConstant constant) {
+		switch (constant) {
+			case PI:
+				return piCache;
+			case E:
+				return eCache;
+			case LOG_TWO:
+				return log2Cache;
+			case LOG_THREE:
 				return log3Cache;
-			}
+			case LOG_TEN:
+				return log10Cache;
 		}
-
-		return round(result, mathContext);
+		throw new IllegalArgumentException("Unknown constant: " + constant);
 	}
 
 	/**
@@ -1284,9 +1758,81 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			return ONE;
 		}
 
+		if (isExpBinarySplittingArgument(x, mathContext.getPrecision())) {
+			return expBinarySplitting(x, mathContext);
+		}
+
 		return expIntegralFractional(x, mathContext);
 	}
 
+	private static boolean isExpBinarySplittingArgument(BigDecimal x, int precision) {
+		if (x.precision() > EXP_BINARY_SPLITTING_MAX_ARGUMENT_DIGITS
+				|| x.scale() > EXP_BINARY_SPLITTING_MAX_ARGUMENT_DIGITS
+				|| x.abs().compareTo(EXP_BINARY_SPLITTING_MAX_ARGUMENT) >= 0) {
+			return false;
+		}
+
+		// the exact sums grow by about the digits of the argument plus log10(n) digits per term,
+		// this only pays off if they stay small compared to the requested precision
+		long termCount = expBinarySplittingTermCount(x.doubleValue(), precision);
+		double exactDigits = termCount * (Math.max(x.precision(), x.scale()) + Math.log10(termCount));
+		return exactDigits <= (double) EXP_BINARY_SPLITTING_MAX_DIGITS_PER_PRECISION * precision;
+	}
+
+	private static BigDecimal expBinarySplitting(BigDecimal x, MathContext mathContext) {
+		// exp(x) = sum(x^n / n!) with x = u / v is summed exactly with binary splitting, only the final division is rounded
+		BigInteger u;
+		BigInteger v;
+		if (x.scale() > 0) {
+			u = x.unscaledValue();
+			v = BigInteger.TEN.pow(x.scale());
+		} else {
+			u = x.toBigIntegerExact();
+			v = BigInteger.ONE;
+		}
+
+		long termCount = expBinarySplittingTermCount(x.doubleValue(), mathContext.getPrecision());
+		BigInteger[] pqt = expBinarySplit(u, v, 1, termCount);
+		BigInteger q = pqt[1];
+		BigInteger t = pqt[2];
+
+		return new BigDecimal(q.add(t)).divide(new BigDecimal(q), mathContext);
+	}
+
+	private static long expBinarySplittingTermCount(double x, int precision) {
+		double log10AbsX = Math.log10(Math.abs(x));
+		double log10AcceptableError = -(precision + 2);
+		if (x < 0) {
+			// the result is exp(-|x|), so the error must be smaller by the same magnitude
+			log10AcceptableError += x * Math.log10(Math.E);
+		}
+
+		// continue at least until the terms decrease fast enough for the remaining sum to be smaller than the last term
+		double log10Term = 0;
+		long n = 0;
+		while (log10Term >= log10AcceptableError || n < 2 * Math.abs(x)) {
+			n++;
+			log10Term += log10AbsX - Math.log10(n);
+		}
+		return n + 1;
+	}
+
+	private static BigInteger[] expBinarySplit(BigInteger u, BigInteger v, long a, long b) {
+		if (b - a == 1) {
+			BigInteger q = v.multiply(BigInteger.valueOf(a));
+			return new BigInteger[] { u, q, u };
+		}
+
+		long m = (a + b) >>> 1;
+		BigInteger[] left = expBinarySplit(u, v, a, m);
+		BigInteger[] right = expBinarySplit(u, v, m, b);
+
+		BigInteger p = left[0].multiply(right[0]);
+		BigInteger q = left[1].multiply(right[1]);
+		BigInteger t = right[1].multiply(left[2]).add(left[0].multiply(right[2]));
+		return new BigInteger[] { p, q, t };
+	}
+
 	private static BigDecimal expIntegralFractional(BigDecimal x, MathContext mathContext) {
 		BigDecimal integralPart = integralPart(x);
 		
@@ -1307,15 +1853,29 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	}
 	
 	private static BigDecimal expTaylor(BigDecimal x, MathContext mathContext) {
-		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+		// reduce the argument by halving it r times and square the result r times: exp(x) = exp(x / 2^r)^(2^r)
+		// every squaring doubles the relative error, so the guard digits grow with r
+		int halvings = expHalvingCount(x, mathContext.getPrecision());
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6 + (int) (halvings * LOG10_TWO), mathContext.getRoundingMode());
+
+		if (halvings > 0) {
+			x = x.divide(TWO.pow(halvings), mc);
+		}
 
-		x = x.divide(valueOf(256), mc);
-		
 		BigDecimal result = ExpCalculator.INSTANCE.calculate(x, mc);
-		result = BigDecimalMath.pow(result, 256, mc);
+		for (int i = 0; i < halvings; i++) {
+			result = result.multiply(result, mc);
+		}
 		return round(result, mathContext);
 	}
 
+	private static int expHalvingCount(BigDecimal x, int precision) {
+		// the optimal reduced argument shrinks with the square root of the precision
+		int targetHalvings = (int) (Math.sqrt(precision) / 4);
+		int magnitudeHalvings = (int) ((exponent(x) + 1) / LOG10_TWO);
+		return Math.max(0, targetHalvings + magnitudeHalvings);
+	}
+
 	/**
 	 * Calculates the sine (sinus) of {@link BigDecimal} x.
 	 * 
@@ -1330,15 +1890,173 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		if (x.abs().compareTo(ROUGHLY_TWO_PI) > 0) {
-			MathContext mc2 = new MathContext(mc.getPrecision() + 4, mathContext.getRoundingMode());
-			BigDecimal twoPi = TWO.multiply(pi(mc2));
-			x = x.remainder(twoPi, mc2);
-		}
+		// sin(x) = +-sin(r) or +-cos(r) with x = n * pi/2 + r
+		ReducedAngle reduced = reduceAngle(x, mc);
+		boolean useCos = reduced.quadrant % 2 != 0;
+		boolean negate = reduced.quadrant >= 2;
 
-		BigDecimal result = SinCalculator.INSTANCE.calculate(x, mc);
+		BigDecimal result = useCos ? cosReduced(reduced.angle, mc) : sinReduced(reduced.angle, mc);
+		if (negate) {
+			result = result.negate();
+		}
 		return round(result, mathContext);
 	}
+
+	/**
+	 * Reduces the angle x to x = n * pi/2 + r with |r| &lt;= pi/4.
+	 *
+	 * <p>At high precision short angles up to 2 pi are not reduced,
+	 * because the powers of a short angle are cheaper to calculate than the powers of the reduced angle with full precision.
+	 * Angles close to a multiple of pi/2 are always reduced, because the series would lose the leading digits of the small result.</p>
+	 *
+	 * <p>If x is close to a multiple of pi/2 the leading digits of x and n * pi/2 cancel,
+	 * so the subtraction is repeated with as many additional digits of pi as cancelled.</p>
+	 */
+	private static ReducedAngle reduceAngle(BigDecimal x, MathContext mathContext) {
+		if (x.abs().compareTo(ROUGHLY_QUARTER_PI) <= 0) {
+			return new ReducedAngle(x, 0);
+		}
+		if (mathContext.getPrecision() >= TRIGONOMETRIC_SHORT_ARGUMENT_MIN_PRECISION
+				&& x.precision() <= mathContext.getPrecision() / 2
+				&& x.abs().compareTo(ROUGHLY_TWO_PI) <= 0
+				&& distanceToHalfPiMultiple(x.doubleValue()) >= TRIGONOMETRIC_SHORT_ARGUMENT_MIN_DISTANCE) {
+			return new ReducedAngle(x, 0);
+		}
+
+		// every digit of the integer part of x needs an additional digit of pi
+		int integerDigits = Math.max(0, exponent(x) + 1);
+		int basePrecision = mathContext.getPrecision() + integerDigits + 4;
+		MathContext mc = new MathContext(basePrecision, mathContext.getRoundingMode());
+		BigDecimal halfPi = pi(mc).multiply(ONE_HALF);
+
+		BigDecimal n;
+		if (integerDigits <= TRIGONOMETRIC_DOUBLE_REDUCTION_MAX_DIGITS) {
+			// a wrong n next to an odd multiple of pi/4 only makes |r| slightly larger than pi/4
+			n = BigDecimal.valueOf(Math.round(x.doubleValue() / (Math.PI / 2)));
+		} else {
+			n = x.divide(halfPi, new MathContext(integerDigits + 4)).setScale(0, RoundingMode.HALF_EVEN);
+		}
+		BigDecimal angle = x.subtract(halfPi.multiply(n), mc);
+
+		// the cancelled digits of a small angle need additional digits of pi, an angle of 0 has cancelled all digits
+		while (angle.signum() == 0 || basePrecision - exponent(angle) > mc.getPrecision()) {
+			int cancellationPrecision = angle.signum() == 0 ? 2 * mc.getPrecision() : basePrecision - exponent(angle);
+			mc = new MathContext(cancellationPrecision, mathContext.getRoundingMode());
+			halfPi = pi(mc).multiply(ONE_HALF);
+			angle = x.subtract(halfPi.multiply(n), mc);
+		}
+		angle = angle.round(mathContext);
+
+		int quadrant = n.toBigIntegerExact().mod(BigInteger.valueOf(4)).intValue();
+		return new ReducedAngle(angle, quadrant);
+	}
+
+	private static double distanceToHalfPiMultiple(double x) {
+		return Math.abs(x - Math.rint(x / (Math.PI / 2)) * (Math.PI / 2));
+	}
+
+	/**
+	 * Returns how many times the argument of the sine and cosine series should be divided before applying the multiple-angle formulas.
+	 *
+	 * <p>Short arguments are not reduced because the powers of a short argument are cheaper to calculate than the powers of the divided argument.
+	 * At low precision the few saved terms do not pay for the multiple-angle formulas.</p>
+	 */
+	private static int trigonometricReductionCount(BigDecimal r, int precision) {
+		if (precision < TRIGONOMETRIC_MULTIPLE_ANGLE_MIN_PRECISION || r.signum() == 0 || r.precision() <= precision / 2) {
+			return 0;
+		}
+		return (int) (Math.sqrt(precision) / 6);
+	}
+
+	/**
+	 * Calculates sin(r) by calculating the taylor series of r / 3^k and applying the triple-angle formula k times.
+	 *
+	 * <p>The triple-angle formula sin(3x) = 3 sin(x) - 4 sin(x)^3 does not need the cosine.</p>
+	 */
+	private static BigDecimal sinReduced(BigDecimal r, MathContext mathContext) {
+		int triplings = trigonometricReductionCount(r, mathContext.getPrecision());
+		if (triplings == 0) {
+			return SinCalculator.INSTANCE.calculate(r, mathContext);
+		}
+
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		BigDecimal s = SinCalculator.INSTANCE.calculate(r.divide(THREE.pow(triplings), mc), mc);
+		for (int i = 0; i < triplings; i++) {
+			s = s.multiply(THREE.subtract(FOUR.multiply(s.multiply(s, mc))), mc);
+		}
+		return round(s, mathContext);
+	}
+
+	/**
+	 * Calculates cos(r) by calculating v = 1 - cos(r / 2^k) and applying the double-angle formula k times.
+	 *
+	 * <p>The double-angle formula 1 - cos(2x) = 2v(2 - v) for v = 1 - cos(x) does not suffer from cancellation,
+	 * the initial v = 2 sin(x/2)^2 is calculated with the taylor series of the sine.</p>
+	 */
+	private static BigDecimal cosReduced(BigDecimal r, MathContext mathContext) {
+		int doublings = trigonometricReductionCount(r, mathContext.getPrecision());
+		if (doublings == 0) {
+			return CosCalculator.INSTANCE.calculate(r, mathContext);
+		}
+
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		BigDecimal halfSin = SinCalculator.INSTANCE.calculate(r.divide(TWO.pow(doublings + 1), mc), mc);
+		BigDecimal v = TWO.multiply(halfSin.multiply(halfSin, mc));
+		for (int i = 0; i < doublings; i++) {
+			v = v.multiply(FOUR.subtract(TWO.multiply(v)), mc);
+		}
+		return round(ONE.subtract(v), mathContext);
+	}
+
+	/**
+	 * Calculates the sine (sinus) and the cosine (cosinus) of {@link BigDecimal} x.
+	 *
+	 * <p>This is faster than calculating {@link #sin(BigDecimal, MathContext)} and {@link #cos(BigDecimal, MathContext)} separately,
+	 * because the argument reduction and the taylor series are only calculated once.</p>
+	 *
+	 * @param x the {@link BigDecimal} to calculate the sine and cosine for
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return an array with the calculated sine at index 0 and the calculated cosine at index 1
+	 * with the precision specified in the <code>mathContext</code>
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 */
+	public static BigDecimal[] sinCos(BigDecimal x, MathContext mathContext) {
+		checkMathContext(mathContext);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		ReducedAngle reduced = reduceAngle(x, mc);
+
+		BigDecimal sin = sinReduced(reduced.angle, mc);
+		BigDecimal cos;
+		if (reduced.angle.abs().compareTo(ROUGHLY_QUARTER_PI) <= 0) {
+			// cos(r) >= 0.7 for |r| <= pi/4 can be calculated from sin(r) without cancellation
+			cos = sqrt(ONE.subtract(sin.multiply(sin, mc)), mc);
+		} else {
+			// short angles that are not reduced at high precision need their own series
+			cos = cosReduced(reduced.angle, mc);
+		}
+
+		switch (reduced.quadrant) {
+			case 1:
+				return new BigDecimal[] { round(cos, mathContext), round(sin.negate(), mathContext) };
+			case 2:
+				return new BigDecimal[] { round(sin.negate(), mathContext), round(cos.negate(), mathContext) };
+			case 3:
+				return new BigDecimal[] { round(cos.negate(), mathContext), round(sin, mathContext) };
+			default:
+				return new BigDecimal[] { round(sin, mathContext), round(cos, mathContext) };
+		}
+	}
+
+	private static class ReducedAngle {
+		final BigDecimal angle;
+		final int quadrant;
+
+		ReducedAngle(BigDecimal angle, int quadrant) {
+			this.angle = angle;
+			this.quadrant = quadrant;
+		}
+	}
 	
 	/**
 	 * Calculates the arc sine (inverted sine) of {@link BigDecimal} x.
@@ -1371,9 +2089,30 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			return acos(xTransformed, mathContext);
 		}
 
+		if (mathContext.getPrecision() >= ASIN_NEWTON_MIN_PRECISION) {
+			return round(asinUsingNewton(x, mc), mathContext);
+		}
+
 		BigDecimal result = AsinCalculator.INSTANCE.calculate(x, mc);
 		return round(result, mathContext);
 	}
+
+	/**
+	 * Calculates the arc sine of 0 &lt;= x &lt; 0.707 with the Newton iteration y' = y - (sin(y) - x) / cos(y),
+	 * doubling the precision in every step.
+	 */
+	private static BigDecimal asinUsingNewton(BigDecimal x, MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		BigDecimal result = BigDecimal.valueOf(Math.asin(x.round(MathContext.DECIMAL64).doubleValue()));
+		result = AdaptivePrecisionIteration.iterate(result, EXPECTED_INITIAL_PRECISION, 2, mc,
+				(y, stepMathContext) -> {
+					BigDecimal[] sinCos = sinCos(y, stepMathContext);
+					return x.subtract(sinCos[0], stepMathContext).divide(sinCos[1], stepMathContext);
+				});
+
+		return round(result, mathContext);
+	}
 	
 	/**
 	 * Calculates the cosine (cosinus) of {@link BigDecimal} x.
@@ -1389,13 +2128,15 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		if (x.abs().compareTo(ROUGHLY_TWO_PI) > 0) {
-			MathContext mc2 = new MathContext(mc.getPrecision() + 4, mathContext.getRoundingMode());
-			BigDecimal twoPi = TWO.multiply(pi(mc2), mc2);
-			x = x.remainder(twoPi, mc2);
+		// cos(x) = +-cos(r) or +-sin(r) with x = n * pi/2 + r
+		ReducedAngle reduced = reduceAngle(x, mc);
+		boolean useSin = reduced.quadrant % 2 != 0;
+		boolean negate = reduced.quadrant == 1 || reduced.quadrant == 2;
+
+		BigDecimal result = useSin ? sinReduced(reduced.angle, mc) : cosReduced(reduced.angle, mc);
+		if (negate) {
+			result = result.negate();
 		}
-		
-		BigDecimal result = CosCalculator.INSTANCE.calculate(x, mc);
 		return round(result, mathContext);
 	}
 
@@ -1442,7 +2183,8 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		}
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = sin(x, mc).divide(cos(x, mc), mc);
+		BigDecimal[] sinCos = sinCos(x, mc);
+		BigDecimal result = sinCos[0].divide(sinCos[1], mc);
 		return round(result, mathContext);
 	}
 	
@@ -1458,14 +2200,61 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 */
 	public static BigDecimal atan(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
+		if (x.signum() == 0) {
+			return ZERO;
+		}
+		if (x.signum() < 0) {
+			return atan(x.negate(), mathContext).negate();
+		}
+
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		x = x.divide(sqrt(ONE.add(x.multiply(x, mc)), mc), mc);
+		if (x.compareTo(ONE) > 0) {
+			// atan(x) = pi/2 - atan(1/x)
+			BigDecimal result = pi(mc).multiply(ONE_HALF).subtract(atanReduced(ONE.divide(x, mc), mc), mc);
+			return round(result, mathContext);
+		}
 
-		BigDecimal result = asin(x, mc);
+		BigDecimal result = atanReduced(x, mc);
 		return round(result, mathContext);
 	}
 
+	/**
+	 * Calculates the arc tangens of 0 &lt; x &lt;= 1 by halving the argument k times with
+	 * atan(x) = 2 atan(x / (1 + sqrt(1 + x^2))) before calculating the taylor series.
+	 */
+	private static BigDecimal atanReduced(BigDecimal x, MathContext mathContext) {
+		int halvings = atanHalvingCount(x, mathContext.getPrecision());
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+
+		for (int i = 0; i < halvings; i++) {
+			x = x.divide(ONE.add(sqrt(ONE.add(x.multiply(x, mc)), mc)), mc);
+		}
+
+		BigDecimal result = AtanCalculator.INSTANCE.calculate(x, mc);
+		if (halvings > 0) {
+			result = result.multiply(TWO.pow(halvings), mc);
+		}
+		return round(result, mathContext);
+	}
+
+	/**
+	 * Returns how many times the argument of the arc tangens series should be halved.
+	 *
+	 * <p>Short arguments are only halved until the series converges reasonably fast,
+	 * because the powers of a short argument are cheaper to calculate than the powers of the halved argument.</p>
+	 */
+	private static int atanHalvingCount(BigDecimal x, int precision) {
+		double bound = x.precision() <= precision / 2 ? 0.5 : 0.05;
+		double value = x.round(MathContext.DECIMAL64).doubleValue();
+		int count = 0;
+		while (value > bound) {
+			value = value / (1 + Math.sqrt(1 + value * value));
+			count++;
+		}
+		return count;
+	}
+
 	/**
 	 * Calculates the arc tangens (inverted tangens) of {@link BigDecimal} y / x in the range -<i>pi</i> to <i>pi</i>.
 	 *
@@ -1524,7 +2313,8 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		}
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = cos(x, mc).divide(sin(x, mc), mc);
+		BigDecimal[] sinCos = sinCos(x, mc);
+		BigDecimal result = sinCos[1].divide(sinCos[0], mc);
 		return round(result, mathContext);
 	}
 
@@ -1579,6 +2369,38 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		return round(result, mathContext);
 	}
 
+	/**
+	 * Calculates the hyperbolic sine and the hyperbolic cosine of {@link BigDecimal} x.
+	 *
+	 * <p>This is faster than calculating {@link #sinh(BigDecimal, MathContext)} and {@link #cosh(BigDecimal, MathContext)} separately,
+	 * because both values are calculated from the same series or the same exponent.</p>
+	 *
+	 * @param x the {@link BigDecimal} to calculate the hyperbolic sine and hyperbolic cosine for
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return an array with the calculated hyperbolic sine at index 0 and the calculated hyperbolic cosine at index 1
+	 * with the precision specified in the <code>mathContext</code>
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 */
+	public static BigDecimal[] sinhCosh(BigDecimal x, MathContext mathContext) {
+		checkMathContext(mathContext);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		BigDecimal sinh;
+		BigDecimal cosh;
+		if (x.abs().compareTo(ONE) < 0) {
+			// exp(x) - exp(-x) would cancel digits for small x
+			sinh = SinhCalculator.INSTANCE.calculate(x, mc);
+			cosh = sqrt(ONE.add(sinh.multiply(sinh, mc)), mc);
+		} else {
+			BigDecimal exp = exp(x, mc);
+			BigDecimal inverseExp = ONE.divide(exp, mc);
+			sinh = exp.subtract(inverseExp, mc).multiply(ONE_HALF);
+			cosh = exp.add(inverseExp, mc).multiply(ONE_HALF);
+		}
+
+		return new BigDecimal[] { round(sinh, mathContext), round(cosh, mathContext) };
+	}
+
 	/**
 	 * Calculates the hyperbolic tangens of {@link BigDecimal} x.
 	 * 
@@ -1591,8 +2413,13 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 */
 	public static BigDecimal tanh(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
+		if (x.signum() == 0) {
+			return ZERO;
+		}
+
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
-		BigDecimal result = sinh(x, mc).divide(cosh(x, mc), mc);
+		BigDecimal[] sinhCosh = sinhCosh(x, mc);
+		BigDecimal result = sinhCosh[0].divide(sinhCosh[1], mc);
 		return round(result, mathContext);
 	}
 
@@ -1609,7 +2436,8 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	public static BigDecimal coth(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
-		BigDecimal result = cosh(x, mc).divide(sinh(x, mc), mc);
+		BigDecimal[] sinhCosh = sinhCosh(x, mc);
+		BigDecimal result = sinhCosh[1].divide(sinhCosh[0], mc);
 		return round(result, mathContext);
 	}
 
@@ -1725,4 +2553,33 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			throw new UnsupportedOperationException("Unlimited MathContext not supported");
 		}
 	}
+
+	/**
+	 * The constants that are cached by {@link BigDecimalMath}.
+	 *
+	 * @see #getCachedPrecision(CachedConstant)
+	 * @see #ensureCachedPrecision(CachedConstant, MathContext)
+	 */
+	public enum CachedConstant {
+		/**
+		 * The number pi, see {@link #pi(MathContext)}.
+		 */
+		PI,
+		/**
+		 * The number e, see {@link #e(MathContext)}.
+		 */
+		E,
+		/**
+		 * The natural logarithm of 2.
+		 */
+		LOG_TWO,
+		/**
+		 * The natural logarithm of 3.
+		 */
+		LOG_THREE,
+		/**
+		 * The natural logarithm of 10.
+		 */
+		LOG_TEN
+	}
 }
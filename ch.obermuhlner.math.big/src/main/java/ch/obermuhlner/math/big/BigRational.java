@@ -7,7 +7,6 @@ import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * A rational number represented as a quotient of two values.
@@ -17,9 +16,19 @@ import java.util.stream.IntStream;
  * 
  * <p><a href="http://en.wikipedia.org/wiki/Rational_number">Wikipedia: Rational number</a></p>
  * 
- * <p>The values are internally stored as {@link BigDecimal} (for performance optimizations) but represented
- * as {@link BigInteger} (for mathematical correctness)
- * when accessed with {@link #getNumeratorBigInteger()} and {@link #getDenominatorBigInteger()}.</p>
+ * <p>The values are internally stored as <code>long</code> as long as the numerator and denominator fit,
+ * otherwise as {@link BigInteger}.
+ * Calculations with small values use <code>long</code> arithmetic and switch transparently
+ * to {@link BigInteger} arithmetic if the result would overflow.
+ * The values can be accessed with {@link #getNumeratorBigInteger()} and {@link #getDenominatorBigInteger()}.</p>
+ * 
+ * <p>Small rational numbers are not reduced automatically (for example <code>BigRational.valueOf(2, 4)</code> stays 2/4),
+ * but as soon as the numerator and denominator of a calculated result together need more than
+ * a few hundred bits the result is reduced.
+ * Multiplications and divisions cancel the common factors of the arguments crosswise
+ * and additions calculate the common factors of the denominators,
+ * so that the greatest common divisors are calculated with the smaller arguments instead of the result.
+ * This keeps the memory and calculation cost of long calculation chains proportional to the size of the reduced values.</p>
  * 
  * <p>The following basic calculations have no loss of precision:</p>
  * <ul>
@@ -60,17 +69,32 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 */
 	public static final BigRational TEN = new BigRational(10);
 
-	private final BigDecimal numerator;
+	// values with more bits in numerator and denominator are always reduced
+	private static final int REDUCE_THRESHOLD_BIT_LENGTH = 256;
+
+	// used if numerator and denominator fit into a long (the denominator is never 0)
+	private final long longNumerator;
+	private final long longDenominator;
 
-	private final BigDecimal denominator;
+	// used otherwise (null if the long values are used)
+	private final BigInteger bigNumerator;
+	private final BigInteger bigDenominator;
 
 	private BigRational(int value) {
-		this(BigDecimal.valueOf(value), BigDecimal.ONE);
+		this(value, 1L);
 	}
 
-	private BigRational(BigDecimal num, BigDecimal denom) {
-		BigDecimal n = num;
-		BigDecimal d = denom;
+	// the denominator must be positive
+	private BigRational(long numerator, long denominator) {
+		longNumerator = numerator;
+		longDenominator = denominator;
+		bigNumerator = null;
+		bigDenominator = null;
+	}
+
+	private BigRational(BigInteger num, BigInteger denom) {
+		BigInteger n = num;
+		BigInteger d = denom;
 
 		if (d.signum() == 0) {
 			throw new ArithmeticException("Divide by zero");
@@ -81,8 +105,29 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			d = d.negate();
 		}
 
-		numerator = n;
-		denominator = d;
+		if (n.bitLength() < Long.SIZE && d.bitLength() < Long.SIZE) {
+			longNumerator = n.longValue();
+			longDenominator = d.longValue();
+			bigNumerator = null;
+			bigDenominator = null;
+		} else {
+			longNumerator = 0;
+			longDenominator = 0;
+			bigNumerator = n;
+			bigDenominator = d;
+		}
+	}
+
+	private boolean isLong() {
+		return bigNumerator == null;
+	}
+
+	private BigInteger numerator() {
+		return isLong() ? BigInteger.valueOf(longNumerator) : bigNumerator;
+	}
+
+	private BigInteger denominator() {
+		return isLong() ? BigInteger.valueOf(longDenominator) : bigDenominator;
 	}
 
 	/**
@@ -91,7 +136,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the numerator as BigInteger
 	 */
 	public BigInteger getNumeratorBigInteger() {
-		return numerator.toBigInteger();
+		return numerator();
 	}
 
 	/**
@@ -100,7 +145,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the numerator as BigDecimal
 	 */
 	public BigDecimal getNumerator() {
-		return numerator;
+		return isLong() ? BigDecimal.valueOf(longNumerator) : new BigDecimal(bigNumerator);
 	}
 
 	/**
@@ -112,7 +157,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the denominator as BigInteger
 	 */
 	public BigInteger getDenominatorBigInteger() {
-		return denominator.toBigInteger();
+		return denominator();
 	}
 
 	/**
@@ -124,7 +169,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the denominator as BigDecimal
 	 */
 	public BigDecimal getDenominator() {
-		return denominator;
+		return isLong() ? BigDecimal.valueOf(longDenominator) : new BigDecimal(bigDenominator);
 	}
 
 	/**
@@ -133,14 +178,57 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the reduced rational number
 	 */
 	public BigRational reduce() {
-		BigInteger n = numerator.toBigInteger();
-		BigInteger d = denominator.toBigInteger();
+		if (isLong() && longNumerator != Long.MIN_VALUE) {
+			long gcd = gcd(Math.abs(longNumerator), longDenominator);
+			if (gcd == 1) {
+				return this;
+			}
+			return of(longNumerator / gcd, longDenominator / gcd);
+		}
+
+		BigInteger gcd = numerator().gcd(denominator());
+		if (gcd.equals(BigInteger.ONE)) {
+			return this;
+		}
+
+		return ofReduced(numerator().divide(gcd), denominator().divide(gcd));
+	}
+
+	// the sum of two long values with at most 62 bits does not overflow
+	private static boolean isSumSafe(long x, long y) {
+		return bitLength(x) <= Long.SIZE - 2 && bitLength(y) <= Long.SIZE - 2;
+	}
 
-		BigInteger gcd = n.gcd(d);
-		n = n.divide(gcd);
-		d = d.divide(gcd);
+	// the product of two long values does not overflow (and can be added to another product) if they have together at most 62 bits
+	private static boolean isProductSafe(long x, long y) {
+		return bitLength(x) + bitLength(y) <= Long.SIZE - 2;
+	}
+
+	// bit length of the absolute value (64 for Long.MIN_VALUE)
+	private static int bitLength(long value) {
+		return Long.SIZE - Long.numberOfLeadingZeros(Math.abs(value));
+	}
+
+	private static long gcd(long a, long b) {
+		while (b != 0) {
+			long remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a;
+	}
+
+	// values above the threshold are already reduced, small values are cheap to reduce
+	private BigRational normalize() {
+		return isSmall() ? reduce() : this;
+	}
+
+	private boolean isSmall() {
+		return isLong() || isSmall(bigNumerator, bigDenominator);
+	}
 
-		return valueOf(n, d);
+	private static boolean isSmall(BigInteger numerator, BigInteger denominator) {
+		return numerator.bitLength() + denominator.bitLength() <= REDUCE_THRESHOLD_BIT_LENGTH;
 	}
 
 	/**
@@ -154,7 +242,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the integer part of this rational number
 	 */
 	public BigRational integerPart() {
-		return of(numerator.subtract(numerator.remainder(denominator)), denominator);
+		return of(numerator().subtract(numerator().remainder(denominator())), denominator());
 	}
 
 	/**
@@ -168,7 +256,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the fraction part of this rational number
 	 */
 	public BigRational fractionPart() {
-		return of(numerator.remainder(denominator), denominator);
+		return ofSameGcd(numerator().remainder(denominator()), denominator());
 	}
 	
 	/**
@@ -188,7 +276,10 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return this;
 		}
 
-		return of(numerator.negate(), denominator);
+		if (isLong() && longNumerator != Long.MIN_VALUE) {
+			return of(-longNumerator, longDenominator);
+		}
+		return ofSameGcd(numerator().negate(), denominator());
 	}
 
 	/**
@@ -206,7 +297,10 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @throws ArithmeticException if this number is 0 (division by zero)
 	 */
 	public BigRational reciprocal() {
-		return of(denominator, numerator);
+		if (isLong()) {
+			return of(longDenominator, longNumerator);
+		}
+		return ofSameGcd(denominator(), numerator());
 	}
 
 	/**
@@ -232,7 +326,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return -1, 0 or 1 as the value of this rational number is negative, zero or positive.
 	 */
 	public int signum() {
-		return numerator.signum();
+		return isLong() ? Long.signum(longNumerator) : bigNumerator.signum();
 	}
 
 	/**
@@ -247,7 +341,10 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the incremented rational number
 	 */
 	public BigRational increment() {
-		return of(numerator.add(denominator), denominator);
+		if (isLong() && isSumSafe(longNumerator, longDenominator)) {
+			return of(longNumerator + longDenominator, longDenominator);
+		}
+		return ofSameGcd(numerator().add(denominator()), denominator());
 	}
 
 	/**
@@ -262,7 +359,10 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the decremented rational number
 	 */
 	public BigRational decrement() {
-		return of(numerator.subtract(denominator), denominator);
+		if (isLong() && isSumSafe(longNumerator, longDenominator)) {
+			return of(longNumerator - longDenominator, longDenominator);
+		}
+		return ofSameGcd(numerator().subtract(denominator()), denominator());
 	}
 
 	/**
@@ -274,17 +374,28 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the resulting rational number
 	 */
 	public BigRational add(BigRational value) {
-		if (denominator.equals(value.denominator)) {
-			return of(numerator.add(value.numerator), denominator);
+		if (isLong() && value.isLong()) {
+			if (longDenominator == value.longDenominator) {
+				if (isSumSafe(longNumerator, value.longNumerator)) {
+					return of(longNumerator + value.longNumerator, longDenominator);
+				}
+			} else if (isProductSafe(longNumerator, value.longDenominator) && isProductSafe(value.longNumerator, longDenominator) && isProductSafe(longDenominator, value.longDenominator)) {
+				long n = longNumerator * value.longDenominator + value.longNumerator * longDenominator;
+				return of(n, longDenominator * value.longDenominator);
+			}
 		}
+		if (isSmall() && value.isSmall()) {
+			if (denominator().equals(value.denominator())) {
+				return of(numerator().add(value.numerator()), denominator());
+			}
 
-		BigDecimal n = numerator.multiply(value.denominator).add(value.numerator.multiply(denominator));
-		BigDecimal d = denominator.multiply(value.denominator);
-		return of(n, d);
-	}
+			BigInteger n = numerator().multiply(value.denominator()).add(value.numerator().multiply(denominator()));
+			BigInteger d = denominator().multiply(value.denominator());
+			return of(n, d);
+		}
 
-	private BigRational add(BigDecimal value) {
-		return of(numerator.add(value.multiply(denominator)), denominator);
+		BigRational reducedValue = value.normalize();
+		return addReduced(normalize(), reducedValue.numerator(), reducedValue.denominator());
 	}
 	
 	/**
@@ -303,7 +414,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		if (value.equals(BigInteger.ZERO)) {
 			return this;
 		}
-		return add(new BigDecimal(value));
+		return ofSameGcd(numerator().add(value.multiply(denominator())), denominator());
 	}
 
 	/**
@@ -322,6 +433,9 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		if (value == 0) {
 			return this;
 		}
+		if (isLong() && isProductSafe(value, longDenominator) && bitLength(longNumerator) <= Long.SIZE - 2) {
+			return of(longNumerator + value * longDenominator, longDenominator);
+		}
 		return add(BigInteger.valueOf(value));
 	}
 
@@ -334,17 +448,43 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the resulting rational number
 	 */
 	public BigRational subtract(BigRational value) {
-		if (denominator.equals(value.denominator)) {
-			return of(numerator.subtract(value.numerator), denominator);
+		if (isLong() && value.isLong()) {
+			if (longDenominator == value.longDenominator) {
+				if (isSumSafe(longNumerator, value.longNumerator)) {
+					return of(longNumerator - value.longNumerator, longDenominator);
+				}
+			} else if (isProductSafe(longNumerator, value.longDenominator) && isProductSafe(value.longNumerator, longDenominator) && isProductSafe(longDenominator, value.longDenominator)) {
+				long n = longNumerator * value.longDenominator - value.longNumerator * longDenominator;
+				return of(n, longDenominator * value.longDenominator);
+			}
+		}
+		if (isSmall() && value.isSmall()) {
+			if (denominator().equals(value.denominator())) {
+				return of(numerator().subtract(value.numerator()), denominator());
+			}
+
+			BigInteger n = numerator().multiply(value.denominator()).subtract(value.numerator().multiply(denominator()));
+			BigInteger d = denominator().multiply(value.denominator());
+			return of(n, d);
 		}
 
-		BigDecimal n = numerator.multiply(value.denominator).subtract(value.numerator.multiply(denominator));
-		BigDecimal d = denominator.multiply(value.denominator);
-		return of(n, d);
+		BigRational reducedValue = value.normalize();
+		return addReduced(normalize(), reducedValue.numerator().negate(), reducedValue.denominator());
 	}
 
-	private BigRational subtract(BigDecimal value) {
-		return of(numerator.subtract(value.multiply(denominator)), denominator);
+	// Knuth, The Art of Computer Programming, Vol. 2, 4.5.1:
+	// the sum of two reduced values is reduced using the gcd of the denominators instead of the gcd of the result
+	private static BigRational addReduced(BigRational x, BigInteger yNumerator, BigInteger yDenominator) {
+		BigInteger gcd = x.denominator().gcd(yDenominator);
+		if (gcd.equals(BigInteger.ONE)) {
+			BigInteger n = x.numerator().multiply(yDenominator).add(yNumerator.multiply(x.denominator()));
+			return ofReduced(n, x.denominator().multiply(yDenominator));
+		}
+
+		BigInteger xDenominatorPart = x.denominator().divide(gcd);
+		BigInteger n = x.numerator().multiply(yDenominator.divide(gcd)).add(yNumerator.multiply(xDenominatorPart));
+		BigInteger gcd2 = n.gcd(gcd);
+		return ofReduced(divideExact(n, gcd2), xDenominatorPart.multiply(divideExact(yDenominator, gcd2)));
 	}
 	
 	/**
@@ -363,7 +503,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		if (value.equals(BigInteger.ZERO)) {
 			return this;
 		}
-		return subtract(new BigDecimal(value));
+		return ofSameGcd(numerator().subtract(value.multiply(denominator())), denominator());
 	}
 
 	/**
@@ -382,6 +522,9 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		if (value == 0) {
 			return this;
 		}
+		if (isLong() && isProductSafe(value, longDenominator) && bitLength(longNumerator) <= Long.SIZE - 2) {
+			return of(longNumerator - value * longDenominator, longDenominator);
+		}
 		return subtract(BigInteger.valueOf(value));
 	}
 
@@ -404,16 +547,24 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return this;
 		}
 
-		BigDecimal n = numerator.multiply(value.numerator);
-		BigDecimal d = denominator.multiply(value.denominator);
-		return of(n, d);
+		if (isLong() && value.isLong() && isProductSafe(longNumerator, value.longNumerator) && isProductSafe(longDenominator, value.longDenominator)) {
+			return of(longNumerator * value.longNumerator, longDenominator * value.longDenominator);
+		}
+		if (isSmall() && value.isSmall()) {
+			return of(numerator().multiply(value.numerator()), denominator().multiply(value.denominator()));
+		}
+
+		BigRational reducedValue = value.normalize();
+		return normalize().multiplyReduced(reducedValue.numerator(), reducedValue.denominator());
 	}
 
-	// private, because we want to hide that we use BigDecimal internally
-	private BigRational multiply(BigDecimal value) {
-		BigDecimal n = numerator.multiply(value);
-		BigDecimal d = denominator;
-		return of(n, d);
+	// the product of two reduced values is reduced after cancelling the common factors crosswise
+	private BigRational multiplyReduced(BigInteger valueNumerator, BigInteger valueDenominator) {
+		BigInteger gcd1 = numerator().gcd(valueDenominator);
+		BigInteger gcd2 = valueNumerator.gcd(denominator());
+		BigInteger n = divideExact(numerator(), gcd1).multiply(divideExact(valueNumerator, gcd2));
+		BigInteger d = divideExact(denominator(), gcd2).multiply(divideExact(valueDenominator, gcd1));
+		return ofReduced(n, d);
 	}
 	
 	/**
@@ -439,7 +590,11 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return this;
 		}
 
-		return multiply(new BigDecimal(value));
+		BigInteger n = numerator().multiply(value);
+		if (isSmall(n, denominator())) {
+			return of(n, denominator());
+		}
+		return normalize().multiplyReduced(value, BigInteger.ONE);
 	}
 
 	/**
@@ -455,6 +610,17 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the resulting rational number
 	 */
 	public BigRational multiply(int value) {
+		if (isLong()) {
+			if (longNumerator == 0 || value == 0) {
+				return ZERO;
+			}
+			if (value == 1) {
+				return this;
+			}
+			if (isProductSafe(longNumerator, value)) {
+				return of(longNumerator * value, longDenominator);
+			}
+		}
 		return multiply(BigInteger.valueOf(value));
 	}
 
@@ -472,15 +638,18 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return this;
 		}
 
-		BigDecimal n = numerator.multiply(value.denominator);
-		BigDecimal d = denominator.multiply(value.numerator);
-		return of(n, d);
-	}
+		if (isLong() && value.isLong() && isProductSafe(longNumerator, value.longDenominator) && isProductSafe(longDenominator, value.longNumerator)) {
+			return of(longNumerator * value.longDenominator, longDenominator * value.longNumerator);
+		}
+		if (isSmall() && value.isSmall()) {
+			return of(numerator().multiply(value.denominator()), denominator().multiply(value.numerator()));
+		}
 
-	private BigRational divide(BigDecimal value) {
-		BigDecimal n = numerator;
-		BigDecimal d = denominator.multiply(value);
-		return of(n, d);
+		if (value.isZero()) {
+			throw new ArithmeticException("Divide by zero");
+		}
+		BigRational reducedValue = value.normalize();
+		return normalize().multiplyReduced(reducedValue.denominator(), reducedValue.numerator());
 	}
 	
 	/**
@@ -501,7 +670,14 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return this;
 		}
 
-		return divide(new BigDecimal(value));
+		BigInteger d = denominator().multiply(value);
+		if (isSmall(numerator(), d)) {
+			return of(numerator(), d);
+		}
+		if (value.signum() == 0) {
+			throw new ArithmeticException("Divide by zero");
+		}
+		return normalize().multiplyReduced(BigInteger.ONE, value);
 	}
 
 	/**
@@ -518,6 +694,14 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @throws ArithmeticException if the argument is 0 (division by zero)
 	 */
 	public BigRational divide(int value) {
+		if (isLong()) {
+			if (value == 1) {
+				return this;
+			}
+			if (isProductSafe(longDenominator, value)) {
+				return of(longNumerator, longDenominator * value);
+			}
+		}
 		return divide(BigInteger.valueOf(value));
 	}
 
@@ -527,11 +711,11 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return <code>true</code> if this rational number is zero (0), <code>false</code> if it is not zero
 	 */
 	public boolean isZero() {
-		return numerator.signum() == 0;
+		return signum() == 0;
 	}
 
 	private boolean isPositive() {
-		return numerator.signum() > 0;
+		return signum() > 0;
 	}
 
 	/**
@@ -552,7 +736,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @see #isInteger()
 	 */
 	private boolean isIntegerInternal() {
-		return denominator.compareTo(BigDecimal.ONE) == 0;
+		return isLong() ? longDenominator == 1 : bigDenominator.equals(BigInteger.ONE);
 	}
 
 	/**
@@ -571,17 +755,21 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return this;
 		}
 
+		boolean smallResult = (long) (numerator().bitLength() + denominator().bitLength()) * Math.abs((long) exponent) <= REDUCE_THRESHOLD_BIT_LENGTH;
+		// the powers of a reduced value are reduced
+		BigRational base = smallResult ? this : normalize();
+
 		final BigInteger n;
 		final BigInteger d;
 		if (exponent > 0) {
-			n = numerator.toBigInteger().pow(exponent);
-			d = denominator.toBigInteger().pow(exponent);
+			n = base.numerator().pow(exponent);
+			d = base.denominator().pow(exponent);
 		}
 		else {
-			n = denominator.toBigInteger().pow(-exponent);
-			d = numerator.toBigInteger().pow(-exponent);
+			n = base.denominator().pow(-exponent);
+			d = base.numerator().pow(-exponent);
 		}
-		return valueOf(n, d);
+		return smallResult ? of(n, d) : ofReduced(n, d);
 	}
 
 	/**
@@ -635,7 +823,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 
 	// TODO what is precision of a rational?
 	private int precision() {
-		return countDigits(numerator.toBigInteger()) + countDigits(denominator.toBigInteger());
+		return countDigits(numerator()) + countDigits(denominator());
 	}
 
 	/**
@@ -689,7 +877,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the {@link BigDecimal}
 	 */
 	public BigDecimal toBigDecimal(MathContext mc) {
-		return numerator.divide(denominator, mc);
+		return getNumerator().divide(getDenominator(), mc);
 	}
 
 	@Override
@@ -697,7 +885,21 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		if (this == other) {
 			return 0;
 		}
-		return numerator.multiply(other.denominator).compareTo(denominator.multiply(other.numerator));
+		if (signum() != other.signum()) {
+			return Integer.compare(signum(), other.signum());
+		}
+		if (isLong() && other.isLong()) {
+			if (longDenominator == other.longDenominator) {
+				return Long.compare(longNumerator, other.longNumerator);
+			}
+			if (isProductSafe(longNumerator, other.longDenominator) && isProductSafe(longDenominator, other.longNumerator)) {
+				return Long.compare(longNumerator * other.longDenominator, longDenominator * other.longNumerator);
+			}
+		}
+		if (denominator().equals(other.denominator())) {
+			return numerator().compareTo(other.numerator());
+		}
+		return numerator().multiply(other.denominator()).compareTo(denominator().multiply(other.numerator()));
 	}
 
 	@Override
@@ -705,7 +907,10 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		if (isZero()) {
 			return 0;
 		}
-		return numerator.hashCode() + denominator.hashCode();
+		if (isLong()) {
+			return Long.hashCode(longNumerator) + Long.hashCode(longDenominator);
+		}
+		return bigNumerator.hashCode() + bigDenominator.hashCode();
 	}
 
 	@Override
@@ -719,10 +924,14 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		}
 
 		BigRational other = (BigRational) obj;
-		if (!numerator.equals(other.numerator)) {
+		// the long values are used whenever they fit, so the two representations are never equal
+		if (isLong() || other.isLong()) {
+			return isLong() && other.isLong() && longNumerator == other.longNumerator && longDenominator == other.longDenominator;
+		}
+		if (!bigNumerator.equals(other.bigNumerator)) {
 			return false;
 		}
-		return denominator.equals(other.denominator);
+		return bigDenominator.equals(other.bigDenominator);
 	}
 
 	@Override
@@ -731,7 +940,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return "0";
 		}
 		if (isIntegerInternal()) {
-			return numerator.toString();
+			return numerator().toString();
 		}
 		return toBigDecimal().toString();
 	}
@@ -747,7 +956,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return "0";
 		}
 		if (isIntegerInternal()) {
-			return numerator.toPlainString();
+			return numerator().toString();
 		}
 		return toBigDecimal().toPlainString();
 	}
@@ -773,9 +982,9 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 			return "0";
 		}
 		if (isIntegerInternal()) {
-			return numerator.toString();
+			return numerator().toString();
 		}
-		return numerator + "/" + denominator;
+		return numerator() + "/" + denominator();
 	}
 
 	/**
@@ -791,9 +1000,9 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @see #valueOf(int, int, int)
 	 */
 	public String toIntegerRationalString() {
-		BigDecimal fractionNumerator = numerator.remainder(denominator);
-		BigDecimal integerNumerator = numerator.subtract(fractionNumerator);
-		BigDecimal integerPart = integerNumerator.divide(denominator);
+		BigInteger[] integerPartAndFractionNumerator = numerator().divideAndRemainder(denominator());
+		BigInteger integerPart = integerPartAndFractionNumerator[0];
+		BigInteger fractionNumerator = integerPartAndFractionNumerator[1];
 
 		StringBuilder result = new StringBuilder();
 		if (integerPart.signum() != 0) {
@@ -807,7 +1016,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 				result.append(fractionNumerator);
 			}
 			result.append('/');
-			result.append(denominator);
+			result.append(denominator());
 		}
 		if (result.length() == 0) {
 			result.append('0');
@@ -841,7 +1050,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @throws ArithmeticException if the denominator is 0 (division by zero)
 	 */
 	public static BigRational valueOf(int numerator, int denominator) {
-		return of(BigDecimal.valueOf(numerator), BigDecimal.valueOf(denominator));
+		return of(numerator, (long) denominator);
 	}
 
 	/**
@@ -878,7 +1087,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @throws ArithmeticException if the denominator is 0 (division by zero)
 	 */
 	public static BigRational valueOf(BigInteger numerator, BigInteger denominator) {
-		return of(new BigDecimal(numerator), new BigDecimal(denominator));
+		return of(numerator, denominator);
 	}
 
 	/**
@@ -936,15 +1145,15 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		
 		int scale = value.scale();
 		if (scale == 0) {
-			return new BigRational(value, BigDecimal.ONE);
+			return ofReduced(value.unscaledValue(), BigInteger.ONE);
 		} else if (scale < 0) {
-			BigDecimal n = new BigDecimal(value.unscaledValue()).multiply(BigDecimal.ONE.movePointLeft(value.scale()));
-			return new BigRational(n, BigDecimal.ONE);
+			BigInteger n = value.unscaledValue().multiply(BigInteger.TEN.pow(-scale));
+			return ofReduced(n, BigInteger.ONE);
 		}
 		else {
-			BigDecimal n = new BigDecimal(value.unscaledValue());
-			BigDecimal d = BigDecimal.ONE.movePointRight(value.scale());
-			return new BigRational(n, d);
+			BigInteger n = value.unscaledValue();
+			BigInteger d = BigInteger.TEN.pow(scale);
+			return of(n, d);
 		}
 	}
 
@@ -1018,16 +1227,56 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		return valueOf(numerator).divide(valueOf(denominator));
 	}
 	
-	private static BigRational of(BigDecimal numerator, BigDecimal denominator) {
+	private static BigRational of(long numerator, long denominator) {
+		if (denominator == 0) {
+			throw new ArithmeticException("Divide by zero");
+		}
+		if (numerator == 0) {
+			return ZERO;
+		}
+		if (denominator < 0) {
+			if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+				return of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+			}
+			numerator = -numerator;
+			denominator = -denominator;
+		}
+		if (numerator == 1 && denominator == 1) {
+			return ONE;
+		}
+		return new BigRational(numerator, denominator);
+	}
+
+	// reduces the value only if it is larger than the threshold
+	private static BigRational of(BigInteger numerator, BigInteger denominator) {
+		if (isSmall(numerator, denominator) || denominator.signum() == 0) {
+			return ofReduced(numerator, denominator);
+		}
+
+		BigInteger gcd = numerator.gcd(denominator);
+		return ofReduced(divideExact(numerator, gcd), divideExact(denominator, gcd));
+	}
+
+	// the caller guarantees that the value is reduced (or small enough to stay unreduced)
+	private static BigRational ofReduced(BigInteger numerator, BigInteger denominator) {
 		if (numerator.signum() == 0 && denominator.signum() != 0) {
 			return ZERO;
 		}
-		if (numerator.compareTo(BigDecimal.ONE) == 0 && denominator.compareTo(BigDecimal.ONE) == 0) {
+		if (numerator.equals(BigInteger.ONE) && denominator.equals(BigInteger.ONE)) {
 			return ONE;
 		}
 		return new BigRational(numerator, denominator);
 	}
 
+	// the value has the same gcd of numerator and denominator as this value
+	private BigRational ofSameGcd(BigInteger numerator, BigInteger denominator) {
+		return isSmall() ? of(numerator, denominator) : ofReduced(numerator, denominator);
+	}
+
+	private static BigInteger divideExact(BigInteger value, BigInteger divisor) {
+		return divisor.equals(BigInteger.ONE) ? value : value.divide(divisor);
+	}
+
 	/**
 	 * Returns the smallest of the specified rational numbers.
 	 * 
@@ -1063,60 +1312,221 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		return result;
 	}
 
-	private static List<BigRational> bernoulliCache = new ArrayList<>();
-	
+	private static final long LONG_MASK = 0xffffffffL;
+
+	private static final Object bernoulliCacheLock = new Object();
+
+	// bernoulliCache[k] = B(2k)
+	private static volatile BigRational[] bernoulliCache = new BigRational[0];
+
 	/**
 	 * Calculates the Bernoulli number for the specified index.
 	 * 
 	 * <p>This function calculates the <strong>first Bernoulli numbers</strong> and therefore <code>bernoulli(1)</code> returns -0.5</p>
 	 * <p>Note that <code>bernoulli(x)</code> for all odd x &gt; 1 returns 0</p>
+	 * <p>The Bernoulli numbers are returned as reduced fractions.
+	 * They are calculated in bulk and cached, reading cached Bernoulli numbers does not need any lock.</p>
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Bernoulli_number">Wikipedia: Bernoulli number</a></p>
 	 * 
 	 * @param n the index of the Bernoulli number to be calculated (starting at 0)
 	 * @return the Bernoulli number for the specified index
 	 * @throws ArithmeticException if x is lesser than 0
+	 * @see #bernoulli(int, int)
 	 */
-    public static BigRational bernoulli(int n) {
+	public static BigRational bernoulli(int n) {
 		if (n < 0) {
 			throw new ArithmeticException("Illegal bernoulli(n) for n < 0: n = " + n);
 		}
-    	if (n == 1) {
-    		return valueOf(-1, 2);
-    	} else if (n % 2 == 1) {
-    		return ZERO;
-    	}
-    	
-    	synchronized (bernoulliCache) {
-    		int index = n / 2;
-    		
-    		if (bernoulliCache.size() <= index) {
-    			for (int i = bernoulliCache.size(); i <= index; i++) {
-    				BigRational b = calculateBernoulli(i * 2);
-					bernoulliCache.add(b);
+		if (n == 1) {
+			return valueOf(-1, 2);
+		} else if (n % 2 == 1) {
+			return ZERO;
+		}
+
+		return getBernoulliCache(n / 2)[n / 2];
+	}
+
+	/**
+	 * Calculates the Bernoulli numbers for the specified range of indices.
+	 *
+	 * <p>This is more efficient than calling {@link #bernoulli(int)} for every index,
+	 * because the cache of Bernoulli numbers is checked (and grown) only once.</p>
+	 *
+	 * @param from the index of the first Bernoulli number to be calculated (inclusive)
+	 * @param to the index of the last Bernoulli number to be calculated (exclusive)
+	 * @return the list of the Bernoulli numbers with the indices from <code>from</code> to <code>to - 1</code>
+	 * @throws ArithmeticException if from is lesser than 0
+	 * @throws IllegalArgumentException if to is lesser than from
+	 * @see #bernoulli(int)
+	 */
+	public static List<BigRational> bernoulli(int from, int to) {
+		if (from < 0) {
+			throw new ArithmeticException("Illegal bernoulli(n) for n < 0: n = " + from);
+		}
+		if (to < from) {
+			throw new IllegalArgumentException("Illegal range to < from: from = " + from + ", to = " + to);
+		}
+
+		List<BigRational> result = new ArrayList<>(to - from);
+		if (to == from) {
+			return result;
+		}
+
+		BigRational[] cache = getBernoulliCache((to - 1) / 2);
+		for (int n = from; n < to; n++) {
+			if (n == 1) {
+				result.add(valueOf(-1, 2));
+			} else if (n % 2 == 1) {
+				result.add(ZERO);
+			} else {
+				result.add(cache[n / 2]);
+			}
+		}
+		return result;
+	}
+
+	private static BigRational[] getBernoulliCache(int maxIndex) {
+		BigRational[] cache = bernoulliCache;
+		if (maxIndex < cache.length) {
+			return cache;
+		}
+
+		synchronized (bernoulliCacheLock) {
+			cache = bernoulliCache;
+			if (maxIndex >= cache.length) {
+				// grow at least by a quarter so that slowly increasing indices do not recalculate every time
+				// (the calculation time grows with the third power of maxIndex, so growing more would be expensive)
+				cache = calculateBernoulli(Math.max(maxIndex, cache.length + cache.length / 4));
+				bernoulliCache = cache;
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * Calculates the Bernoulli numbers B(0), B(2), ... B(2 * maxIndex) from the tangent numbers.
+	 *
+	 * <p>The tangent numbers T(1), ... T(n) are calculated with the integer recurrence of Brent and Harvey
+	 * which only needs multiplications of big integers with small integers.
+	 * The recurrence is calculated in place on the magnitudes of the tangent numbers,
+	 * which are allocated once with the size of the final value.</p>
+	 *
+	 * <p>B(2k) = (-1)<sup>k-1</sup> 2k T(k) / (2<sup>2k</sup> (2<sup>2k</sup> - 1))</p>
+	 *
+	 * <p>The reduced denominator is known from the theorem of von Staudt and Clausen,
+	 * so the reduced numerator is calculated with an exact division instead of an expensive gcd.</p>
+	 *
+	 * <p>See: <a href="https://arxiv.org/abs/1108.0286">Richard P. Brent, David Harvey: Fast computation of Bernoulli, Tangent and Secant numbers</a></p>
+	 */
+	private static BigRational[] calculateBernoulli(int maxIndex) {
+		// magnitudes in little endian order of unsigned 32 bit words
+		int[][] tangent = new int[maxIndex + 1][];
+		int[] tangentLength = new int[maxIndex + 1];
+		for (int k = 1; k <= maxIndex; k++) {
+			// T(k) < (2k)! < (2k)^(2k) / e^(2k) * 2k * e (all values in the recurrence are increasing up to T(k))
+			double bits = 2.0 * k * (Math.log(2.0 * k) - 1) / Math.log(2) + Math.log(2.0 * k) / Math.log(2) + 2;
+			tangent[k] = new int[(int) (bits / 32) + 2];
+		}
+
+		if (maxIndex >= 1) {
+			tangent[1][0] = 1;
+			tangentLength[1] = 1;
+		}
+		for (int k = 2; k <= maxIndex; k++) {
+			// T(k) = (k-1) T(k-1)
+			tangentLength[k] = multiplyAdd(tangent[k], 0, tangent[k - 1], tangentLength[k - 1], k - 1, 0);
+		}
+		for (int k = 2; k <= maxIndex; k++) {
+			for (int j = k; j <= maxIndex; j++) {
+				// T(j) = (j-k) T(j-1) + (j-k+2) T(j)
+				tangentLength[j] = multiplyAdd(tangent[j], tangentLength[j], tangent[j - 1], tangentLength[j - 1], j - k, j - k + 2);
+			}
+		}
+
+		BigRational[] result = new BigRational[maxIndex + 1];
+		result[0] = ONE;
+		for (int k = 1; k <= maxIndex; k++) {
+			BigInteger denominator = bernoulliDenominator(2 * k);
+			BigInteger numerator = toBigInteger(tangent[k], tangentLength[k])
+					.multiply(BigInteger.valueOf(2L * k))
+					.multiply(denominator)
+					.shiftRight(2 * k)
+					.divide(BigInteger.ONE.shiftLeft(2 * k).subtract(BigInteger.ONE));
+			if (k % 2 == 0) {
+				numerator = numerator.negate();
+			}
+			result[k] = ofReduced(numerator, denominator);
+		}
+		return result;
+	}
+
+	// von Staudt-Clausen: the denominator of B(n) is the product of all primes p where p-1 divides n
+	private static BigInteger bernoulliDenominator(int n) {
+		BigInteger result = BigInteger.ONE;
+		for (int divisor = 1; (long) divisor * divisor <= n; divisor++) {
+			if (n % divisor == 0) {
+				int otherDivisor = n / divisor;
+				if (isPrime(divisor + 1L)) {
+					result = result.multiply(BigInteger.valueOf(divisor + 1L));
+				}
+				if (otherDivisor != divisor && isPrime(otherDivisor + 1L)) {
+					result = result.multiply(BigInteger.valueOf(otherDivisor + 1L));
 				}
-    		}
-    		
-    		return bernoulliCache.get(index);
-		}
-    }
-    
-    private static BigRational calculateBernoulli(int n) {
-    	return IntStream.rangeClosed(0, n).parallel().mapToObj(k -> {
-            BigRational jSum = ZERO ;
-            BigRational bin = ONE ;
-            for(int j=0 ; j <= k ; j++) {
-                BigRational jPowN = valueOf(j).pow(n);
-                if (j % 2 == 0) {
-                	jSum = jSum.add(bin.multiply(jPowN)) ;
-                } else {
-                	jSum = jSum.subtract(bin.multiply(jPowN)) ;
-                }
-
-                bin = bin.multiply(valueOf(k-j).divide(valueOf(j+1)));
-            }
-            return jSum.divide(valueOf(k+1));
-    	}).reduce(ZERO, BigRational::add);
-    }
+			}
+		}
+		return result;
+	}
+
+	private static boolean isPrime(long value) {
+		if (value < 2) {
+			return false;
+		}
+		for (long divisor = 2; divisor * divisor <= value; divisor++) {
+			if (value % divisor == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// calculates target = factor * source + targetFactor * target in place and returns the new length of target
+	private static int multiplyAdd(int[] target, int targetLength, int[] source, int sourceLength, long factor, long targetFactor) {
+		// the factors are small enough that the sum of the products and the carry fits into a long
+		long carry = 0;
+		int i = 0;
+		for (; i < sourceLength && i < targetLength; i++) {
+			carry += factor * (source[i] & LONG_MASK) + targetFactor * (target[i] & LONG_MASK);
+			target[i] = (int) carry;
+			carry >>>= 32;
+		}
+		for (; i < sourceLength; i++) {
+			carry += factor * (source[i] & LONG_MASK);
+			target[i] = (int) carry;
+			carry >>>= 32;
+		}
+		for (; i < targetLength; i++) {
+			carry += targetFactor * (target[i] & LONG_MASK);
+			target[i] = (int) carry;
+			carry >>>= 32;
+		}
+		while (carry != 0) {
+			target[i++] = (int) carry;
+			carry >>>= 32;
+		}
+		return i;
+	}
+
+	private static BigInteger toBigInteger(int[] magnitude, int length) {
+		byte[] bytes = new byte[length * 4];
+		for (int i = 0; i < length; i++) {
+			int word = magnitude[length - 1 - i];
+			bytes[4 * i] = (byte) (word >>> 24);
+			bytes[4 * i + 1] = (byte) (word >>> 16);
+			bytes[4 * i + 2] = (byte) (word >>> 8);
+			bytes[4 * i + 3] = (byte) word;
+		}
+		return new BigInteger(1, bytes);
+	}
 
 	@Override
 	public int intValue() {
@@ -378,6 +378,18 @@ public class DefaultBigDecimalMath {
         return BigDecimalMath.gamma(x, currentMathContext());
     }
 
+    /**
+     * Calculates the natural logarithm of the gamma function of the specified {@link BigDecimal} using the current {@link MathContext}.
+     *
+     * @param x the {@link BigDecimal}
+     * @return the calculated log(gamma(x)) {@link BigDecimal} with the precision specified in the current {@link MathContext}
+     * @see #currentMathContext()
+     * @see BigDecimalMath#logGamma(BigDecimal, MathContext)
+     */
+    public static BigDecimal logGamma(BigDecimal x) {
+        return BigDecimalMath.logGamma(x, currentMathContext());
+    }
+
     /**
      * Calculates the Bernoulli number for the specified index using the current {@link MathContext}.
      *
@@ -546,6 +558,18 @@ public class DefaultBigDecimalMath {
         return BigDecimalMath.cos(x, currentMathContext());
     }
 
+    /**
+     * Calculates the sine (sinus) and the cosine (cosinus) of {@link BigDecimal} x using the current {@link MathContext}.
+     *
+     * @param x the {@link BigDecimal} to calculate the sine and cosine for
+     * @return an array with the calculated sine at index 0 and the calculated cosine at index 1 with the precision specified in the current {@link MathContext}
+     * @see #currentMathContext()
+     * @see BigDecimalMath#sinCos(BigDecimal, MathContext)
+     */
+    public static BigDecimal[] sinCos(BigDecimal x) {
+        return BigDecimalMath.sinCos(x, currentMathContext());
+    }
+
     /**
      * Calculates the arc cosine (inverted cosine) of {@link BigDecimal} x using the current {@link MathContext}.
      *
@@ -643,6 +667,18 @@ public class DefaultBigDecimalMath {
         return BigDecimalMath.cosh(x, currentMathContext());
     }
 
+    /**
+     * Calculates the hyperbolic sine and the hyperbolic cosine of {@link BigDecimal} x using the current {@link MathContext}.
+     *
+     * @param x the {@link BigDecimal} to calculate the hyperbolic sine and hyperbolic cosine for
+     * @return an array with the calculated hyperbolic sine at index 0 and the calculated hyperbolic cosine at index 1 with the precision specified in the current {@link MathContext}
+     * @see #currentMathContext()
+     * @see BigDecimalMath#sinhCosh(BigDecimal, MathContext)
+     */
+    public static BigDecimal[] sinhCosh(BigDecimal x) {
+        return BigDecimalMath.sinhCosh(x, currentMathContext());
+    }
+
     /**
      * Calculates the hyperbolic tangens of {@link BigDecimal} x using the current {@link MathContext}.
      *
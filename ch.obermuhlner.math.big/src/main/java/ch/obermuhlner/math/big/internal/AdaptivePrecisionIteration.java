@@ -0,0 +1,80 @@
+package ch.obermuhlner.math.big.internal;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Drives an iterative root-finding method (for example Newton or Halley) with adaptive precision.
+ *
+ * <p>The iteration starts with the precision of the initial value and multiplies the working precision
+ * with the convergence order of the method in every step until the precision of the {@link MathContext} is reached.</p>
+ *
+ * <p>Only the steps at the full precision check for convergence.
+ * The size of the last correction tells how many digits the value already had before the correction,
+ * the convergence order tells how many digits it has after the correction.
+ * This way usually a single step at full precision is needed.</p>
+ *
+ * <p>This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class AdaptivePrecisionIteration {
+
+	/**
+	 * A single step of an iterative root-finding method.
+	 */
+	@FunctionalInterface
+	public interface Step {
+		/**
+		 * Calculates the correction that is added to the current value.
+		 *
+		 * @param value the current value
+		 * @param mathContext the {@link MathContext} with the working precision of this step
+		 * @return the correction to add to the current value
+		 */
+		BigDecimal correction(BigDecimal value, MathContext mathContext);
+	}
+
+	private AdaptivePrecisionIteration() {
+		// prevent instances
+	}
+
+	/**
+	 * Iterates the specified step until the value is accurate to the precision of the {@link MathContext}.
+	 *
+	 * @param initialValue the initial value
+	 * @param initialPrecision the number of correct digits of the initial value
+	 * @param order the convergence order of the step (2 for Newton, 3 for Halley)
+	 * @param mathContext the {@link MathContext} defining the precision of the result
+	 * @param step the step that calculates the correction of the current value
+	 * @return the calculated value, accurate to the precision of the <code>mathContext</code> but not rounded to it
+	 */
+	public static BigDecimal iterate(BigDecimal initialValue, int initialPrecision, int order, MathContext mathContext, Step step) {
+		int maxPrecision = mathContext.getPrecision();
+
+		BigDecimal result = initialValue;
+		int adaptivePrecision = Math.max(1, initialPrecision);
+
+		while (true) {
+			adaptivePrecision = (int) Math.min((long) adaptivePrecision * order, maxPrecision);
+			MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
+
+			BigDecimal correction = step.correction(result, mc);
+			result = result.add(correction, mc);
+
+			if (adaptivePrecision == maxPrecision && isConverged(result, correction, order, maxPrecision)) {
+				return result;
+			}
+		}
+	}
+
+	private static boolean isConverged(BigDecimal result, BigDecimal correction, int order, int precision) {
+		if (correction.signum() == 0 || result.signum() == 0) {
+			return correction.signum() == 0;
+		}
+
+		// the correction is as large as the error of the value before the correction
+		long correctDigitsBefore = (long) BigDecimalMath.exponent(result) - BigDecimalMath.exponent(correction);
+		return (correctDigitsBefore - 1) * order >= precision;
+	}
+}
@@ -0,0 +1,73 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.util.Arrays;
+
+/**
+ * Table of values that can only grow by appending values at the end.
+ *
+ * <p>Values that are already in the table can be read by any thread without locking.</p>
+ *
+ * <p>Appending is <strong>not</strong> thread-safe, callers must make sure that only one thread appends at a time.</p>
+ *
+ * <p>The values are stored in segments of fixed size so that growing the table never copies the values.</p>
+ *
+ * @param <T> the type of the values
+ */
+class AppendOnlyTable<T> {
+
+	private static final int SEGMENT_SHIFT = 6;
+	private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+	private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+	private volatile Object[][] segments = new Object[4][];
+
+	private volatile int size;
+
+	/**
+	 * Returns the number of values in this table.
+	 *
+	 * @return the number of values
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the value with the specified index.
+	 *
+	 * @param index the index of the value, must be less than {@link #size()}
+	 * @return the value
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " >= size " + size);
+		}
+		return (T) segments[index >>> SEGMENT_SHIFT][index & SEGMENT_MASK];
+	}
+
+	/**
+	 * Appends a value at the end of this table.
+	 *
+	 * <p>Must only be called by one thread at a time.</p>
+	 *
+	 * @param value the value to append
+	 */
+	public void add(T value) {
+		int index = size;
+		int segmentIndex = index >>> SEGMENT_SHIFT;
+
+		Object[][] currentSegments = segments;
+		if (segmentIndex >= currentSegments.length) {
+			currentSegments = Arrays.copyOf(currentSegments, currentSegments.length * 2);
+		}
+		if (currentSegments[segmentIndex] == null) {
+			currentSegments[segmentIndex] = new Object[SEGMENT_SIZE];
+		}
+		currentSegments[segmentIndex][index & SEGMENT_MASK] = value;
+
+		// publish the value before the new size becomes visible to readers
+		segments = currentSegments;
+		size = index + 1;
+	}
+}
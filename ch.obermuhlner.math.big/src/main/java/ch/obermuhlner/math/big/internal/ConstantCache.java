@@ -0,0 +1,100 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches the value of a mathematical constant that can be calculated with arbitrary precision.
+ *
+ * <p>Reading a value with a precision that is already cached does not need any lock.</p>
+ *
+ * <p>If a higher precision is requested the value is calculated by a single thread,
+ * all other threads that need the higher precision wait for this calculation instead of calculating it again.</p>
+ *
+ * <p>The cached precision grows in tiers (at least by half of the currently cached precision)
+ * so that a series of calls with slowly increasing precision does not recalculate the value every time.</p>
+ *
+ * <p>This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class ConstantCache {
+
+	private static final int GUARD_DIGITS = 4;
+
+	private final Function<MathContext, BigDecimal> calculation;
+
+	private final Object calculationLock = new Object();
+
+	private volatile CachedValue cachedValue;
+
+	/**
+	 * Constructs a {@link ConstantCache} for the specified calculation.
+	 *
+	 * @param calculation the function that calculates the constant with the precision of the specified {@link MathContext}
+	 */
+	public ConstantCache(Function<MathContext, BigDecimal> calculation) {
+		this.calculation = requireNonNull(calculation, "Calculation cannot be null");
+	}
+
+	/**
+	 * Returns the value of the constant with the precision specified in the {@link MathContext}.
+	 *
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the value of the constant
+	 */
+	public BigDecimal get(MathContext mathContext) {
+		return getCachedValue(mathContext.getPrecision()).value.round(mathContext);
+	}
+
+	/**
+	 * Returns the precision that is currently cached.
+	 *
+	 * <p>Calls to {@link #get(MathContext)} with this or a lower precision will not calculate the value.</p>
+	 *
+	 * @return the cached precision, 0 if nothing has been cached yet
+	 */
+	public int getPrecision() {
+		CachedValue cached = cachedValue;
+		return cached == null ? 0 : cached.precision;
+	}
+
+	/**
+	 * Makes sure that the value is cached with at least the specified precision.
+	 *
+	 * @param precision the precision to cache
+	 */
+	public void ensurePrecision(int precision) {
+		getCachedValue(precision);
+	}
+
+	private CachedValue getCachedValue(int precision) {
+		CachedValue cached = cachedValue;
+		if (cached != null && precision <= cached.precision) {
+			return cached;
+		}
+
+		synchronized (calculationLock) {
+			cached = cachedValue;
+			if (cached == null || precision > cached.precision) {
+				int tieredPrecision = cached == null ? precision : Math.max(precision, cached.precision + cached.precision / 2);
+				MathContext mc = new MathContext(tieredPrecision + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+				cached = new CachedValue(calculation.apply(mc), tieredPrecision);
+				cachedValue = cached;
+			}
+			return cached;
+		}
+	}
+
+	private static class CachedValue {
+		final BigDecimal value;
+		final int precision;
+
+		CachedValue(BigDecimal value, int precision) {
+			this.value = value;
+			this.precision = precision;
+		}
+	}
+}
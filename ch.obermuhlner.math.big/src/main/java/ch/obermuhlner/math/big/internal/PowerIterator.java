@@ -25,4 +25,13 @@ public interface PowerIterator {
 	 * Calculates the next power.
 	 */
 	void calculateNextPower();
+
+	/**
+	 * Returns the factor that {@link #calculateNextPower()} multiplies with the current power.
+	 *
+	 * <p>This allows to calculate any power of the iteration directly, without calculating all previous powers.</p>
+	 *
+	 * @return the factor between two consecutive powers
+	 */
+	BigDecimal getPowerFactor();
 }
\ No newline at end of file
@@ -32,4 +32,9 @@ public class PowerTwoNMinusOneIterator implements PowerIterator {
 	public void calculateNextPower() {
 		powerOfX = powerOfX.multiply(xPowerTwo, mathContext);
 	}
+
+	@Override
+	public BigDecimal getPowerFactor() {
+		return xPowerTwo;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calculates the factorial of integer values using the prime swing algorithm.
+ *
+ * <p>The prime swing algorithm calculates n! = ((n/2)!)<sup>2</sup> * swing(n)
+ * where swing(n) = n! / ((n/2)!)<sup>2</sup> is calculated from its prime factorization.
+ * This needs far fewer multiplications of large values than multiplying all integers from 1 to n.</p>
+ *
+ * <p>The primes are taken from a sieve that is cached up to a fixed limit.
+ * Larger sieves are only created for the calculation that needs them.</p>
+ *
+ * <p>The factorials calculated with the prime swing algorithm are cached as checkpoints.
+ * The factorial of an n close above a checkpoint is calculated by multiplying the checkpoint
+ * with the product of the few integers in between.
+ * The number of checkpoints and their total bit length are limited;
+ * when a limit is exceeded the checkpoints farthest away from the latest n are evicted.
+ * Reading the caches does not need any lock.</p>
+ *
+ * <p>See: <a href="http://www.luschny.de/math/factorial/SwingIntro.pdf">Peter Luschny: Swing, divide and conquer the factorial</a></p>
+ *
+ * <p>This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class PrimeSwingFactorial {
+
+	private static final int MAX_CHECKPOINT_DISTANCE = 1000;
+
+	private static final int MAX_CHECKPOINT_COUNT = 64;
+
+	private static final long MAX_CHECKPOINT_BITS = 1L << 25;
+
+	private static final int MAX_CACHED_SIEVE_LIMIT = 1 << 20;
+
+	private static final int PRODUCT_TREE_THRESHOLD = 16;
+
+	private static final long[] SMALL_FACTORIALS = new long[21];
+
+	static {
+		SMALL_FACTORIALS[0] = 1;
+		for (int i = 1; i < SMALL_FACTORIALS.length; i++) {
+			SMALL_FACTORIALS[i] = SMALL_FACTORIALS[i - 1] * i;
+		}
+	}
+
+	private static final ConcurrentSkipListMap<Integer, BigInteger> checkpoints = new ConcurrentSkipListMap<>();
+
+	private static final AtomicInteger checkpointCount = new AtomicInteger();
+
+	private static final AtomicLong checkpointBits = new AtomicLong();
+
+	private static final Object sieveLock = new Object();
+
+	private static volatile Sieve sieve = new Sieve(1024);
+
+	private PrimeSwingFactorial() {
+		// prevent instances
+	}
+
+	/**
+	 * Calculates the factorial of n.
+	 *
+	 * @param n the value to calculate the factorial for, must not be negative
+	 * @return the factorial n!
+	 */
+	public static BigInteger factorial(int n) {
+		if (n < SMALL_FACTORIALS.length) {
+			return BigInteger.valueOf(SMALL_FACTORIALS[n]);
+		}
+
+		Map.Entry<Integer, BigInteger> checkpoint = checkpoints.floorEntry(n);
+		if (checkpoint != null && n - checkpoint.getKey() <= MAX_CHECKPOINT_DISTANCE) {
+			if (checkpoint.getKey() == n) {
+				return checkpoint.getValue();
+			}
+			return checkpoint.getValue().multiply(product(checkpoint.getKey() + 1, n));
+		}
+
+		// n! = oddFactorial(n) * 2^(n - bitCount(n))
+		BigInteger result = oddFactorial(n, primesUpTo(n)).shiftLeft(n - Integer.bitCount(n));
+		putCheckpoint(n, result);
+		return result;
+	}
+
+	private static void putCheckpoint(int n, BigInteger factorial) {
+		long bits = factorial.bitLength();
+		if (bits > MAX_CHECKPOINT_BITS || checkpoints.putIfAbsent(n, factorial) != null) {
+			return;
+		}
+		int count = checkpointCount.incrementAndGet();
+		long totalBits = checkpointBits.addAndGet(bits);
+
+		while (count > MAX_CHECKPOINT_COUNT || totalBits > MAX_CHECKPOINT_BITS) {
+			Map.Entry<Integer, BigInteger> first = checkpoints.firstEntry();
+			Map.Entry<Integer, BigInteger> last = checkpoints.lastEntry();
+			if (first == null || last == null) {
+				return;
+			}
+
+			// evict the checkpoint farthest away from n, it is the least likely to be close below the next n
+			int firstDistance = n - first.getKey();
+			int lastDistance = last.getKey() - n;
+			if (firstDistance <= 0 && lastDistance <= 0) {
+				return;
+			}
+			Integer evictKey = firstDistance >= lastDistance ? first.getKey() : last.getKey();
+			BigInteger evicted = checkpoints.remove(evictKey);
+			if (evicted != null) {
+				count = checkpointCount.decrementAndGet();
+				totalBits = checkpointBits.addAndGet(-evicted.bitLength());
+			} else {
+				count = checkpointCount.get();
+				totalBits = checkpointBits.get();
+			}
+		}
+	}
+
+	static int getCheckpointCount() {
+		return checkpointCount.get();
+	}
+
+	static long getCheckpointBits() {
+		return checkpointBits.get();
+	}
+
+	private static BigInteger oddFactorial(int n, int[] primes) {
+		if (n < SMALL_FACTORIALS.length) {
+			long smallFactorial = SMALL_FACTORIALS[n];
+			return BigInteger.valueOf(smallFactorial >> Long.numberOfTrailingZeros(smallFactorial));
+		}
+
+		BigInteger halfOddFactorial = oddFactorial(n / 2, primes);
+		return halfOddFactorial.multiply(halfOddFactorial).multiply(oddSwing(n, primes));
+	}
+
+	private static BigInteger oddSwing(int n, int[] primes) {
+		int primeCount = Arrays.binarySearch(primes, n);
+		primeCount = primeCount >= 0 ? primeCount + 1 : -primeCount - 1;
+
+		// the exponent of a prime p in swing(n) is the number of odd values in n/p, n/p^2, ...
+		// and the resulting prime power is never larger than n
+		long[] factors = new long[primeCount];
+		int factorCount = 0;
+		long accumulator = 1;
+		// the prime 2 is skipped, powers of 2 are shifted in at the end
+		for (int i = 1; i < primeCount; i++) {
+			int prime = primes[i];
+			long primePower = 1;
+			int quotient = n;
+			while ((quotient /= prime) > 0) {
+				if ((quotient & 1) == 1) {
+					primePower *= prime;
+				}
+			}
+
+			if (primePower > 1) {
+				if (accumulator > Long.MAX_VALUE / primePower) {
+					factors[factorCount++] = accumulator;
+					accumulator = primePower;
+				} else {
+					accumulator *= primePower;
+				}
+			}
+		}
+		factors[factorCount++] = accumulator;
+
+		return product(factors, 0, factorCount);
+	}
+
+	private static BigInteger product(long[] factors, int start, int end) {
+		if (end - start <= PRODUCT_TREE_THRESHOLD) {
+			BigInteger result = BigInteger.valueOf(factors[start]);
+			for (int i = start + 1; i < end; i++) {
+				result = result.multiply(BigInteger.valueOf(factors[i]));
+			}
+			return result;
+		}
+
+		int mid = (start + end) >>> 1;
+		return product(factors, start, mid).multiply(product(factors, mid, end));
+	}
+
+	private static BigInteger product(int from, int to) {
+		long[] factors = new long[to - from + 1];
+		int factorCount = 0;
+		long accumulator = 1;
+		for (long i = from; i <= to; i++) {
+			if (accumulator > Long.MAX_VALUE / i) {
+				factors[factorCount++] = accumulator;
+				accumulator = i;
+			} else {
+				accumulator *= i;
+			}
+		}
+		factors[factorCount++] = accumulator;
+
+		return product(factors, 0, factorCount);
+	}
+
+	private static int[] primesUpTo(int n) {
+		Sieve cachedSieve = sieve;
+		if (n <= cachedSieve.limit) {
+			return cachedSieve.primes;
+		}
+		if (n > MAX_CACHED_SIEVE_LIMIT) {
+			// sieving is cheap compared to the multiplications of such a large factorial
+			return new Sieve(n).primes;
+		}
+
+		synchronized (sieveLock) {
+			cachedSieve = sieve;
+			if (n > cachedSieve.limit) {
+				// grow at least by a factor 2 so that slowly increasing n does not sieve every time
+				cachedSieve = new Sieve(Math.min(Math.max(n, 2 * cachedSieve.limit), MAX_CACHED_SIEVE_LIMIT));
+				sieve = cachedSieve;
+			}
+			return cachedSieve.primes;
+		}
+	}
+
+	/**
+	 * Sieve of Eratosthenes with all primes up to a limit.
+	 */
+	private static class Sieve {
+		final int limit;
+		final int[] primes;
+
+		Sieve(int limit) {
+			this.limit = limit;
+
+			// the sieve only contains odd numbers
+			int size = (limit + 1) / 2;
+			boolean[] composite = new boolean[size];
+			for (long i = 3; i * i <= limit; i += 2) {
+				if (!composite[(int) (i / 2)]) {
+					for (long multiple = i * i; multiple <= limit; multiple += 2 * i) {
+						composite[(int) (multiple / 2)] = true;
+					}
+				}
+			}
+
+			int count = 1;
+			for (int i = 1; i < size; i++) {
+				if (!composite[i]) {
+					count++;
+				}
+			}
+
+			primes = new int[count];
+			primes[0] = 2;
+			int index = 1;
+			for (int i = 1; i < size; i++) {
+				if (!composite[i]) {
+					primes[index++] = 2 * i + 1;
+				}
+			}
+		}
+	}
+}
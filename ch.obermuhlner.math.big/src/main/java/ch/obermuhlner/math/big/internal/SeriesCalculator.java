@@ -1,24 +1,52 @@
 package ch.obermuhlner.math.big.internal;
 
+import ch.obermuhlner.math.big.BigDecimalMath;
 import ch.obermuhlner.math.big.BigRational;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Utility class to calculate taylor series efficiently until the maximum error (as defined by the precision in the {@link MathContext} is reached.
  * 
- * <p>Stores the factors of the taylor series terms so that future calculations will be faster.</p>
+ * <p>Stores the factors of the taylor series terms so that future calculations will be faster.
+ * Reading the factors that are already stored does not need any lock.</p>
+ *
+ * <p>Calculations with high precision use rectangular splitting (Paterson-Stockmeyer):
+ * the terms are grouped into blocks of about sqrt(n) terms that are evaluated with the same precalculated powers
+ * and small integer coefficients, the blocks are then combined with the Horner scheme.
+ * This needs only about 2 sqrt(n) full precision multiplications instead of n multiplications and divisions.</p>
+ *
+ * <p>If enabled with the system property <code>ch.obermuhlner.math.big.parallel.series.precision</code>
+ * the terms of calculations with at least this precision are split into ranges
+ * that are summed in parallel using the common {@link ForkJoinPool}.</p>
  */
 public abstract class SeriesCalculator {
 
+	private static final int PARALLEL_MIN_TERMS_PER_TASK = 16;
+
+	static final int RECTANGULAR_SPLITTING_MIN_PRECISION = 150;
+
+	private static final int RECTANGULAR_SPLITTING_MIN_TERMS = 16;
+
+	private static final int RECTANGULAR_SPLITTING_GUARD_DIGITS = 4;
+
+	private static final double LOG10_TWO = Math.log10(2);
+
+	private static final String PARALLEL_PRECISION_PROPERTY = "ch.obermuhlner.math.big.parallel.series.precision";
+
+	private static volatile int parallelPrecision = Math.max(0, Integer.getInteger(PARALLEL_PRECISION_PROPERTY, 0));
+
 	private final boolean calculateInPairs;
 
-	private final List<BigRational> factors = new ArrayList<>();
+	private final AppendOnlyTable<BigRational> factors = new AppendOnlyTable<>();
+
+	private final AppendOnlyTable<BigInteger[]> factorRatios = new AppendOnlyTable<>();
 
 	/**
 	 * Constructs a {@link SeriesCalculator} that calculates single terms.
@@ -38,7 +66,33 @@ public abstract class SeriesCalculator {
 	protected SeriesCalculator(boolean calculateInPairs) {
 		this.calculateInPairs = calculateInPairs;
 	}
-	
+
+	/**
+	 * Sets the minimum precision for which the series are calculated in parallel.
+	 *
+	 * <p>Parallel calculation is disabled by default.
+	 * Applications enable it with the system property <code>ch.obermuhlner.math.big.parallel.series.precision</code>,
+	 * this setter is only used by the tests.</p>
+	 *
+	 * @param precision the minimum precision for parallel calculation, or 0 to disable parallel calculation
+	 * @throws IllegalArgumentException if precision &lt; 0
+	 */
+	static void setParallelPrecision(int precision) {
+		if (precision < 0) {
+			throw new IllegalArgumentException("Illegal parallel precision < 0: precision = " + precision);
+		}
+		parallelPrecision = precision;
+	}
+
+	/**
+	 * Returns the minimum precision for which the series are calculated in parallel.
+	 *
+	 * @return the minimum precision for parallel calculation, or 0 if parallel calculation is disabled
+	 */
+	static int getParallelPrecision() {
+		return parallelPrecision;
+	}
+
 	/**
 	 * Calculates the series for the specified value x and the precision defined in the {@link MathContext}.
 	 *
@@ -47,39 +101,263 @@ public abstract class SeriesCalculator {
 	 * @return the calculated result
 	 */
 	public BigDecimal calculate(BigDecimal x, MathContext mathContext) {
+		int minParallelPrecision = parallelPrecision;
+		if (minParallelPrecision > 0 && mathContext.getPrecision() >= minParallelPrecision) {
+			return calculateInParallel(x, mathContext);
+		}
+		if (mathContext.getPrecision() >= RECTANGULAR_SPLITTING_MIN_PRECISION) {
+			return calculateRectangularSplitting(x, mathContext);
+		}
+
+		return calculateSequential(x, mathContext);
+	}
+
+	BigDecimal calculateSequential(BigDecimal x, MathContext mathContext) {
 		BigDecimal acceptableError = BigDecimal.ONE.movePointLeft(mathContext.getPrecision() + 1);
 
 		PowerIterator powerIterator = createPowerIterator(x, mathContext);
-		
+		BigDecimal firstPower = powerIterator.getCurrentPower();
+		BigDecimal powerFactor = powerIterator.getPowerFactor();
+
 		BigDecimal sum = BigDecimal.ZERO;
 		BigDecimal step;
+		BigDecimal term = calculateTerm(getFactor(0), firstPower, mathContext);
 		int i = 0;
 		do {
-			BigRational factor;
-			BigDecimal xToThePower;
-
-			factor = getFactor(i);
-			xToThePower  = powerIterator.getCurrentPower();
-			powerIterator.calculateNextPower();
-			step = factor.getNumerator().multiply(xToThePower).divide(factor.getDenominator(), mathContext);
+			step = term;
 			i++;
+			term = calculateNextTerm(term, i, firstPower, powerFactor, mathContext);
 
 			if (calculateInPairs) {
-				factor = getFactor(i);
-				xToThePower = powerIterator.getCurrentPower();
-				powerIterator.calculateNextPower();
-				BigDecimal step2 = factor.getNumerator().multiply(xToThePower).divide(factor.getDenominator(), mathContext);
-				step = step.add(step2);
+				step = step.add(term);
 				i++;
+				term = calculateNextTerm(term, i, firstPower, powerFactor, mathContext);
 			}
 
 			sum = sum.add(step);
-			//System.out.println(sum + " " + step);
 		} while (step.abs().compareTo(acceptableError) > 0);
 		
 		return sum.round(mathContext);
 	}
-	
+
+	private BigDecimal calculateInParallel(BigDecimal x, MathContext mathContext) {
+		PowerIterator powerIterator = createPowerIterator(x, mathContext);
+		BigDecimal firstPower = powerIterator.getCurrentPower();
+		BigDecimal powerFactor = powerIterator.getPowerFactor();
+		if (firstPower.signum() == 0 || powerFactor.signum() == 0) {
+			return calculateSequential(x, mathContext);
+		}
+
+		int termCount = estimateTermCount(firstPower, powerFactor, mathContext);
+		if (termCount < 2 * PARALLEL_MIN_TERMS_PER_TASK) {
+			return calculateSequential(x, mathContext);
+		}
+
+		int termsPerTask = Math.max(PARALLEL_MIN_TERMS_PER_TASK, termCount / (4 * ForkJoinPool.getCommonPoolParallelism()));
+		BigDecimal sum = ForkJoinPool.commonPool().invoke(new SeriesSumTask(firstPower, powerFactor, 0, termCount, termsPerTask, mathContext));
+
+		// the term count is only an estimate - continue with the following terms until the acceptable error is reached
+		BigDecimal acceptableError = BigDecimal.ONE.movePointLeft(mathContext.getPrecision() + 1);
+		BigDecimal step;
+		BigDecimal term = calculateTerm(termCount, firstPower, powerFactor, mathContext);
+		int i = termCount;
+		do {
+			step = term;
+			i++;
+			term = calculateNextTerm(term, i, firstPower, powerFactor, mathContext);
+
+			if (calculateInPairs) {
+				step = step.add(term);
+				i++;
+				term = calculateNextTerm(term, i, firstPower, powerFactor, mathContext);
+			}
+
+			sum = sum.add(step);
+		} while (step.abs().compareTo(acceptableError) > 0);
+
+		return sum.round(mathContext);
+	}
+
+	BigDecimal calculateRectangularSplitting(BigDecimal x, MathContext mathContext) {
+		PowerIterator powerIterator = createPowerIterator(x, mathContext);
+		BigDecimal firstPower = powerIterator.getCurrentPower();
+		BigDecimal powerFactor = powerIterator.getPowerFactor();
+		if (firstPower.signum() == 0 || powerFactor.signum() == 0) {
+			return calculateSequential(x, mathContext);
+		}
+
+		int termCount = estimateTermCount(firstPower, powerFactor, mathContext);
+		if (termCount < RECTANGULAR_SPLITTING_MIN_TERMS) {
+			return calculateSequential(x, mathContext);
+		}
+
+		int blockSize = (int) Math.ceil(Math.sqrt(termCount));
+		int blockCount = (termCount + blockSize - 1) / blockSize;
+
+		// ratios[i] = factor(i) / factor(i-1) as small integers numerator and denominator
+		BigInteger[][] ratios = new BigInteger[blockCount * blockSize + 1][];
+		for (int i = 1; i < ratios.length; i++) {
+			ratios[i] = getFactorRatio(i);
+			if (ratios[i] == null) {
+				return calculateSequential(x, mathContext);
+			}
+		}
+
+		MathContext mc = new MathContext(mathContext.getPrecision() + RECTANGULAR_SPLITTING_GUARD_DIGITS, mathContext.getRoundingMode());
+
+		BigDecimal[] powers = new BigDecimal[blockSize + 1];
+		powers[0] = BigDecimal.ONE;
+		for (int k = 1; k <= blockSize; k++) {
+			powers[k] = powers[k - 1].multiply(powerFactor, mc);
+		}
+
+		// Horner scheme over the blocks, starting with the last block
+		// every block is scaled relative to the factor of its first term
+		BigDecimal result = BigDecimal.ZERO;
+		BigInteger[] prefixNumerators = new BigInteger[blockSize + 1];
+		BigInteger[] suffixDenominators = new BigInteger[blockSize + 1];
+		for (int block = blockCount - 1; block >= 0; block--) {
+			int start = block * blockSize;
+
+			prefixNumerators[0] = BigInteger.ONE;
+			for (int k = 1; k <= blockSize; k++) {
+				prefixNumerators[k] = prefixNumerators[k - 1].multiply(ratios[start + k][0]);
+			}
+			suffixDenominators[blockSize] = BigInteger.ONE;
+			for (int k = blockSize - 1; k >= 0; k--) {
+				suffixDenominators[k] = suffixDenominators[k + 1].multiply(ratios[start + k + 1][1]);
+			}
+
+			// coefficient of term k is factor(start+k) / factor(start) = prefixNumerators[k] * suffixDenominators[k] / suffixDenominators[0]
+			BigDecimal sum = BigDecimal.ZERO;
+			for (int k = 0; k < blockSize; k++) {
+				BigInteger coefficient = prefixNumerators[k].multiply(suffixDenominators[k]);
+				sum = sum.add(powers[k].multiply(new BigDecimal(coefficient)));
+			}
+			if (result.signum() != 0) {
+				sum = sum.add(powers[blockSize].multiply(result, mc).multiply(new BigDecimal(prefixNumerators[blockSize])));
+			}
+			result = sum.divide(new BigDecimal(suffixDenominators[0]), mc);
+		}
+
+		BigRational firstFactor = getFactor(0);
+		result = firstPower.multiply(result, mc);
+		result = firstFactor.getNumerator().multiply(result).divide(firstFactor.getDenominator(), mc);
+		return result.round(mathContext);
+	}
+
+	private int estimateTermCount(BigDecimal firstPower, BigDecimal powerFactor, MathContext mathContext) {
+		double log10AcceptableError = -(mathContext.getPrecision() + 1);
+		double log10FirstPower = log10(firstPower);
+		double log10PowerFactor = log10(powerFactor);
+
+		int requiredSmallTerms = calculateInPairs ? 2 : 1;
+		int smallTerms = 0;
+		int i = 0;
+		while (smallTerms < requiredSmallTerms) {
+			BigRational factor = getFactor(i);
+			double log10Term = log10(factor.getNumeratorBigInteger()) - log10(factor.getDenominatorBigInteger()) + log10FirstPower + i * log10PowerFactor;
+			if (log10Term < log10AcceptableError) {
+				smallTerms++;
+			} else {
+				smallTerms = 0;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	private static double log10(BigInteger value) {
+		if (value.signum() == 0) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		// only the highest 63 bits are needed for the estimate
+		int shift = Math.max(0, value.bitLength() - 63);
+		return Math.log10(Math.abs(value.shiftRight(shift).doubleValue())) + shift * LOG10_TWO;
+	}
+
+	private static double log10(BigDecimal value) {
+		if (value.signum() == 0) {
+			return Double.NEGATIVE_INFINITY;
+		}
+		BigDecimal rounded = value.abs().round(MathContext.DECIMAL64);
+		return BigDecimalMath.exponent(rounded) + Math.log10(BigDecimalMath.mantissa(rounded).doubleValue());
+	}
+
+	private static BigDecimal calculateTerm(BigRational factor, BigDecimal xToThePower, MathContext mathContext) {
+		return factor.getNumerator().multiply(xToThePower).divide(factor.getDenominator(), mathContext);
+	}
+
+	BigDecimal calculateTerm(int index, BigDecimal firstPower, BigDecimal powerFactor, MathContext mathContext) {
+		BigDecimal xToThePower = firstPower;
+		if (index > 0) {
+			xToThePower = xToThePower.multiply(BigDecimalMath.pow(powerFactor, index, mathContext), mathContext);
+		}
+		return calculateTerm(getFactor(index), xToThePower, mathContext);
+	}
+
+	/**
+	 * Calculates the term with the specified index from the previous term
+	 * by multiplying with the power factor and the small integer ratio between the two factors.
+	 *
+	 * <p>This avoids the division by the (usually huge) denominator of the factor.</p>
+	 */
+	BigDecimal calculateNextTerm(BigDecimal previousTerm, int index, BigDecimal firstPower, BigDecimal powerFactor, MathContext mathContext) {
+		BigInteger[] ratio = getFactorRatio(index);
+		if (ratio == null) {
+			return calculateTerm(index, firstPower, powerFactor, mathContext);
+		}
+
+		BigDecimal term = previousTerm.multiply(powerFactor, mathContext).multiply(new BigDecimal(ratio[0]));
+		if (BigInteger.ONE.equals(ratio[1])) {
+			return term.round(mathContext);
+		}
+		return term.divide(new BigDecimal(ratio[1]), mathContext);
+	}
+
+	/**
+	 * Sums the terms of the series in the range [from, to) by recursively splitting the range into smaller tasks.
+	 */
+	private class SeriesSumTask extends RecursiveTask<BigDecimal> {
+		private static final long serialVersionUID = 5118937613263411640L;
+
+		private final BigDecimal firstPower;
+		private final BigDecimal powerFactor;
+		private final int from;
+		private final int to;
+		private final int termsPerTask;
+		private final MathContext mathContext;
+
+		SeriesSumTask(BigDecimal firstPower, BigDecimal powerFactor, int from, int to, int termsPerTask, MathContext mathContext) {
+			this.firstPower = firstPower;
+			this.powerFactor = powerFactor;
+			this.from = from;
+			this.to = to;
+			this.termsPerTask = termsPerTask;
+			this.mathContext = mathContext;
+		}
+
+		@Override
+		protected BigDecimal compute() {
+			if (to - from > termsPerTask) {
+				int mid = (from + to) >>> 1;
+				SeriesSumTask left = new SeriesSumTask(firstPower, powerFactor, from, mid, termsPerTask, mathContext);
+				SeriesSumTask right = new SeriesSumTask(firstPower, powerFactor, mid, to, termsPerTask, mathContext);
+				left.fork();
+				BigDecimal rightSum = right.compute();
+				return left.join().add(rightSum);
+			}
+
+			BigDecimal term = calculateTerm(from, firstPower, powerFactor, mathContext);
+			BigDecimal sum = term;
+			for (int i = from + 1; i < to; i++) {
+				term = calculateNextTerm(term, i, firstPower, powerFactor, mathContext);
+				sum = sum.add(term);
+			}
+			return sum;
+		}
+	}
+
 	/**
 	 * Creates the {@link PowerIterator} used for this series.
 	 * 
@@ -92,13 +370,22 @@ public abstract class SeriesCalculator {
 	/**
 	 * Returns the factor of the term with specified index.
 	 *
-	 * All mutable state of this class (and all its subclasses) must be modified in this method.
-	 * This method is synchronized to allow thread-safe usage of this class.
+	 * <p>Factors that are already calculated are returned without any lock.</p>
+	 *
+	 * <p>All mutable state of this class (and all its subclasses) must be modified only while new factors are calculated
+	 * with {@link #getCurrentFactor()} and {@link #calculateNextFactor()}, which is synchronized to allow thread-safe usage of this class.</p>
 	 *
 	 * @param index the index (starting with 0)
 	 * @return the factor of the specified term
 	 */
-	protected synchronized BigRational getFactor(int index) {
+	protected BigRational getFactor(int index) {
+		if (index < factors.size()) {
+			return factors.get(index);
+		}
+		return calculateFactors(index);
+	}
+
+	private synchronized BigRational calculateFactors(int index) {
 		while (factors.size() <= index) {
 			BigRational factor = getCurrentFactor();
 			addFactor(factor);
@@ -111,6 +398,53 @@ public abstract class SeriesCalculator {
 		factors.add(requireNonNull(factor, "Factor cannot be null"));
 	}
 
+	/**
+	 * Returns the ratio between the factor of the term with the specified index and the factor of the previous term.
+	 *
+	 * @param index the index (starting with 1)
+	 * @return the reduced ratio as numerator and denominator, or <code>null</code> if the ratio cannot be expressed with integers
+	 */
+	BigInteger[] getFactorRatio(int index) {
+		if (index <= factorRatios.size()) {
+			return factorRatios.get(index - 1);
+		}
+		return calculateFactorRatios(index);
+	}
+
+	private synchronized BigInteger[] calculateFactorRatios(int index) {
+		while (factorRatios.size() < index) {
+			int i = factorRatios.size() + 1;
+			factorRatios.add(calculateFactorRatio(getFactor(i - 1), getFactor(i)));
+		}
+		return factorRatios.get(index - 1);
+	}
+
+	private static BigInteger[] calculateFactorRatio(BigRational previous, BigRational current) {
+		if (previous.isZero() || current.isZero()) {
+			return null;
+		}
+
+		BigInteger previousNumerator = previous.getNumeratorBigInteger();
+		BigInteger previousDenominator = previous.getDenominatorBigInteger();
+		BigInteger currentNumerator = current.getNumeratorBigInteger();
+		BigInteger currentDenominator = current.getDenominatorBigInteger();
+
+		// reduce numerators and denominators separately to keep the numbers small
+		BigInteger numeratorGcd = currentNumerator.gcd(previousNumerator);
+		BigInteger denominatorGcd = currentDenominator.gcd(previousDenominator);
+		BigInteger numerator = currentNumerator.divide(numeratorGcd).multiply(previousDenominator.divide(denominatorGcd));
+		BigInteger denominator = currentDenominator.divide(denominatorGcd).multiply(previousNumerator.divide(numeratorGcd));
+
+		BigInteger gcd = numerator.gcd(denominator);
+		numerator = numerator.divide(gcd);
+		denominator = denominator.divide(gcd);
+		if (denominator.signum() < 0) {
+			numerator = numerator.negate();
+			denominator = denominator.negate();
+		}
+		return new BigInteger[] { numerator, denominator };
+	}
+
 	/**
 	 * Returns the factor of the highest term already calculated.
 	 * <p>When called for the first time will return the factor of the first term (index 0).</p>
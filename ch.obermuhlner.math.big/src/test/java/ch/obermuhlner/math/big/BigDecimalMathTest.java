@@ -5,6 +5,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.Arrays;
@@ -402,6 +403,34 @@ public class BigDecimalMathTest {
 		BigDecimalMath.pi(MathContext.UNLIMITED);
 	}
 
+	@Test
+	public void testPiMultiThreaded() throws Throwable {
+		BigDecimal expected = BigDecimalMath.pi(new MathContext(300));
+		runMultiThreaded(() -> {
+			Random random = new Random(1);
+			for (int i = 0; i < 20; i++) {
+				MathContext mathContext = new MathContext(random.nextInt(250) + 1);
+				assertEquals(expected.round(mathContext), BigDecimalMath.pi(mathContext));
+			}
+		});
+	}
+
+	@Test
+	public void testEnsureCachedPrecision() {
+		for (BigDecimalMath.CachedConstant constant : BigDecimalMath.CachedConstant.values()) {
+			BigDecimalMath.ensureCachedPrecision(constant, new MathContext(50));
+			assertTrue(constant + " precision", BigDecimalMath.getCachedPrecision(constant) >= 50);
+		}
+
+		BigDecimal cachedPi = BigDecimalMath.pi(new MathContext(BigDecimalMath.getCachedPrecision(BigDecimalMath.CachedConstant.PI)));
+		assertEquals(cachedPi.round(new MathContext(40)), BigDecimalMath.pi(new MathContext(40)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testEnsureCachedPrecisionUnlimitedFail() {
+		BigDecimalMath.ensureCachedPrecision(BigDecimalMath.CachedConstant.PI, MathContext.UNLIMITED);
+	}
+
 	@Test
 	public void testBernoulli() {
         assertBigDecimal(toCheck(1),			BigDecimalMath.bernoulli(0, MC), MC_CHECK_DOUBLE);
@@ -430,6 +459,21 @@ public class BigDecimalMathTest {
 		BigDecimalMath.bernoulli(-1, MC);
 	}
 
+	@Test
+	public void testBernoulliLarge() {
+		for (int n = 100; n <= 300; n += 10) {
+			assertBigDecimal("bernoulli(" + n + ")", BigRational.bernoulli(n).toBigDecimal(MC), BigDecimalMath.bernoulli(n, MC), MC);
+		}
+	}
+
+	@Test
+	public void testBernoulliHuge() {
+		// the exact numerator has more than 170000 digits
+		BigDecimal bernoulli = BigDecimalMath.bernoulli(50000, MC);
+		assertEquals(-1, bernoulli.signum());
+		assertEquals(173327, BigDecimalMath.exponent(bernoulli));
+	}
+
 	@Test
 	public void testBernoulliUnlimited() {
 		assertBigDecimal(toCheck(1), BigDecimalMath.bernoulli(0, MathContext.UNLIMITED), MC_CHECK_DOUBLE);
@@ -484,6 +528,25 @@ public class BigDecimalMathTest {
         }
 	}
 
+	@Test
+	public void testFactorialIntLarge() throws Throwable {
+		BigInteger expected = BigInteger.ONE;
+		for (int n = 1; n <= 12000; n++) {
+			expected = expected.multiply(BigInteger.valueOf(n));
+			if (n % 997 == 0 || n == 12000) {
+				assertEquals("n=" + n, new BigDecimal(expected), BigDecimalMath.factorial(n));
+			}
+		}
+
+		runMultiThreaded(() -> {
+			BigInteger product = BigInteger.ONE;
+			for (int n = 5001; n <= 5100; n++) {
+				product = product.multiply(BigInteger.valueOf(n));
+			}
+			assertEquals(BigDecimalMath.factorial(5100), BigDecimalMath.factorial(5000).multiply(new BigDecimal(product)));
+		});
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testFactorialIntNegative() {
 		BigDecimalMath.factorial(-1);
@@ -499,6 +562,14 @@ public class BigDecimalMathTest {
 		   10);
 	}
 
+	@Test
+	public void testFactorialMultiThreaded() throws Throwable {
+		// the Spouge constants for this precision are calculated by the first thread, all others wait for them
+		MathContext mathContext = new MathContext(77);
+		BigDecimal expected = new BigDecimal("1.3293403881791370204736256125058588870981620920917903461603558423896834634432741360312129925539084990621701");
+		runMultiThreaded(() -> assertBigDecimal(expected.round(mathContext), BigDecimalMath.factorial(new BigDecimal("1.5"), mathContext), mathContext));
+	}
+
 	@Test
 	public void testFactorialNegative() {
 		// Result from wolframalpha.com: (-1.5)!
@@ -539,6 +610,65 @@ public class BigDecimalMathTest {
 		   10);
 	}
 
+	@Test
+	public void testGammaLargeArgument() {
+		// uses the Stirling series instead of Spouge's approximation
+		MathContext mathContext = new MathContext(100);
+		BigDecimal expected = new BigDecimal("1.272301195695055464182244180377444569506634709865527828393992983880480861838914363639331431733362215E+2566");
+		assertBigDecimal(expected, BigDecimalMath.gamma(new BigDecimal("1000.5"), mathContext), mathContext);
+	}
+
+	@Test
+	public void testLogGamma() {
+		MathContext mathContext = new MathContext(50);
+		MathContext referenceContext = new MathContext(70);
+		for (String x : new String[] { "0.001", "0.5", "1.5", "3", "10.25", "123.5", "1000.5" }) {
+			BigDecimal expected = BigDecimalMath.log(BigDecimalMath.gamma(new BigDecimal(x), referenceContext), referenceContext);
+			assertBigDecimal("logGamma(" + x + ")", expected.round(mathContext), BigDecimalMath.logGamma(new BigDecimal(x), mathContext), mathContext);
+		}
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.logGamma(BigDecimal.ONE, mathContext));
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.logGamma(BigDecimal.valueOf(2), mathContext));
+	}
+
+	@Test
+	public void testLogGammaNearZeros() {
+		// the leading digits of the Stirling series cancel close to the zeros x = 1 and x = 2
+		for (String x : new String[] { "1.00000000000000000001", "0.9999999999", "1.0001", "2.0000000001", "1.99999999999999999999999", "2.001" }) {
+			for (int precision : new int[] { 16, 50, 100 }) {
+				MathContext mathContext = new MathContext(precision);
+				MathContext referenceContext = new MathContext(precision + 50);
+				BigDecimal expected = BigDecimalMath.log(BigDecimalMath.gamma(new BigDecimal(x), referenceContext), referenceContext);
+				assertBigDecimal("logGamma(" + x + ")", expected, BigDecimalMath.logGamma(new BigDecimal(x), mathContext), mathContext);
+			}
+		}
+
+		// log(gamma(1 + e)) = -euler e + zeta(2)/2 e^2 - zeta(3)/3 e^3 + ...
+		assertEquals(
+				new BigDecimal("-5.7721566490153286059828741974816129885983732867013E-21"),
+				BigDecimalMath.logGamma(new BigDecimal("1.00000000000000000001"), new MathContext(50)));
+	}
+
+	@Test
+	public void testLogGammaHugeArgument() {
+		// gamma(1E100) is far outside of the range of BigDecimal
+		MathContext mathContext = new MathContext(50);
+		BigDecimal x = new BigDecimal("1E100");
+		MathContext referenceContext = new MathContext(160);
+		BigDecimal expected = x.subtract(new BigDecimal("0.5")).multiply(BigDecimalMath.log(x, referenceContext)).subtract(x)
+				.add(BigDecimalMath.log(BigDecimalMath.pi(referenceContext).multiply(BigDecimal.valueOf(2)), referenceContext).divide(BigDecimal.valueOf(2)));
+		assertBigDecimal(expected.round(mathContext), BigDecimalMath.logGamma(x, mathContext), mathContext);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testLogGammaZero() {
+		BigDecimalMath.logGamma(BigDecimal.ZERO, MC);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testLogGammaUnlimitedFail() {
+		BigDecimalMath.logGamma(BigDecimal.valueOf(2.5), MathContext.UNLIMITED);
+	}
+
 	@Test
 	public void testGammaSlightlyPositive() {
 		// Result from wolframalpha.com: gamma(0.5)
@@ -587,6 +717,38 @@ public class BigDecimalMathTest {
 		}
 	}
 
+	@Test
+	public void testPowLargeY() {
+		MathContext mathContext = new MathContext(50);
+		for(long y : new long[] { 2, 17, 255, 256, 12345, 7777777, -7777777 }) {
+			BigDecimal x = new BigDecimal("1.0000123456789");
+			BigDecimal expected = y > 0
+					? x.pow((int) y, new MathContext(100))
+					: BigDecimal.ONE.divide(x.pow((int) -y, new MathContext(100)), new MathContext(100));
+			assertBigDecimal("1.0000123456789^" + y, expected.round(mathContext), BigDecimalMath.pow(x, y, mathContext), mathContext);
+		}
+	}
+
+	@Test
+	public void testPowHugeIntegerY() {
+		MathContext mathContext = new MathContext(100);
+		MathContext referenceContext = new MathContext(150);
+		BigDecimal x = new BigDecimal("1.00000000000000000000000000000123456789");
+		for(String y : new String[] { "123456789012345678901234567", "-1234567890123456789012345678901", "1E+25" }) {
+			BigDecimal expected = BigDecimalMath.exp(new BigDecimal(y).multiply(BigDecimalMath.log(x, referenceContext)), referenceContext);
+			assertBigDecimal(x + "^" + y, expected.round(mathContext), BigDecimalMath.pow(x, new BigDecimal(y), mathContext), mathContext);
+		}
+	}
+
+	@Test
+	public void testPowPowerOfTen() {
+		assertEquals(new BigDecimal("1E+12"), BigDecimalMath.pow(new BigDecimal("1E+3"), 4, MC));
+		assertEquals(new BigDecimal("1E-12"), BigDecimalMath.pow(new BigDecimal("1E+3"), -4, MC));
+		assertEquals(new BigDecimal("-1E-6"), BigDecimalMath.pow(new BigDecimal("-1E-2"), 3, MathContext.UNLIMITED));
+		assertEquals(BigDecimal.ONE, BigDecimalMath.pow(BigDecimal.ONE.negate(), Long.MIN_VALUE, MC));
+		assertEquals(BigDecimal.ONE.negate(), BigDecimalMath.pow(BigDecimal.ONE.negate(), Long.MAX_VALUE, MC));
+	}
+
 	@Test
 	public void testPowIntUnlimited() {
 		assertEquals(BigDecimal.valueOf(1.44), BigDecimalMath.pow(BigDecimal.valueOf(1.2), 2, MathContext.UNLIMITED));
@@ -789,6 +951,26 @@ public class BigDecimalMathTest {
 		BigDecimalMath.sqrt(BigDecimal.valueOf(2), MathContext.UNLIMITED);
 	}
 
+	@Test
+	public void testSqrtOutsideDoubleRange() {
+		assertEquals(0, new BigDecimal("1E-200").compareTo(BigDecimalMath.sqrt(new BigDecimal("1E-400"), MC)));
+		assertEquals(0, new BigDecimal("3E+500").compareTo(BigDecimalMath.sqrt(new BigDecimal("9E+1000"), MC)));
+		assertBigDecimal(new BigDecimal("4E-1001"), BigDecimalMath.sqrt(new BigDecimal("4E-1001"), MC).pow(2, MC), MC);
+	}
+
+	@Test
+	public void testSqrtOfLongSquare() {
+		Random random = new Random(1234);
+		for (int digits : new int[] { 50, 51, 200, 1001 }) {
+			for (int scale : new int[] { -500, -3, 0, 7, 800 }) {
+				BigDecimal root = new BigDecimal(new BigInteger(digits * 10 / 3, random).add(BigInteger.ONE), scale);
+				BigDecimal square = root.multiply(root);
+				assertEquals("sqrt(" + root + "^2)", 0, root.compareTo(BigDecimalMath.sqrt(square, new MathContext(root.precision() + 10))));
+				assertBigDecimal("sqrt(" + root + "^2 + ulp)", root, BigDecimalMath.sqrt(square.add(square.ulp()), new MathContext(root.precision())), new MathContext(root.precision()));
+			}
+		}
+	}
+
 	@Test
 	public void testSqrtHighAccuracy() {
 		// Result from wolframalpha.com: sqrt(2)
@@ -864,6 +1046,21 @@ public class BigDecimalMathTest {
 		}
 	}
 
+	@Test
+	public void testRootIntegerOutsideDoubleRange() {
+		MathContext mathContext = new MathContext(200);
+		for (int n : new int[] { 3, 4, 5, 17, 400 }) {
+			for (String x : new String[] { "7E-999", "1.23E+1001", "0.3", "2" }) {
+				BigDecimal value = new BigDecimal(x);
+				BigDecimal root = BigDecimalMath.root(value, BigDecimal.valueOf(n), new MathContext(mathContext.getPrecision() + 10));
+				assertBigDecimal("root(" + x + ", " + n + ")^" + n,
+						value.round(mathContext),
+						BigDecimalMath.pow(root, n, mathContext),
+						mathContext);
+			}
+		}
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testRootZeroN() {
 		BigDecimalMath.root(BigDecimal.ONE, BigDecimal.ZERO, MC);
@@ -984,6 +1181,18 @@ public class BigDecimalMathTest {
 				10);
 	}
 
+	@Test
+	public void testLogAgm() {
+		// precision high enough to use the arithmetic-geometric mean
+		MathContext mathContext = new MathContext(15000);
+		MathContext checkMathContext = new MathContext(14990);
+		for (String value : new String[] { "3.1", "1.000001" }) {
+			BigDecimal x = new BigDecimal(value);
+			BigDecimal log = BigDecimalMath.log(x, mathContext);
+			assertBigDecimal("log(" + value + ")", x, BigDecimalMath.exp(log, mathContext), checkMathContext);
+		}
+	}
+
 	@Test
 	public void testLogNotorious1() {
 		// Result from wolframalpha.com: ln(3.627)
@@ -1009,6 +1218,43 @@ public class BigDecimalMathTest {
 		assertEquals(expected.round(MC), BigDecimalMath.log(new BigDecimal("1E399"), MC));
 	}
 
+	@Test
+	public void testLogNearOne() {
+		// the leading digits of x - exp(y) cancel for x close to 1
+		for (String value : new String[] { "1.0000000001", "0.9999999999", "1.00000000000000000001", "0.99999999999999999999999999999", "1.0001" }) {
+			BigDecimal x = new BigDecimal(value);
+			for (int precision : new int[] { 16, 50, 250 }) {
+				MathContext mathContext = new MathContext(precision);
+				MathContext referenceContext = new MathContext(precision + 20);
+				BigDecimal expectedLog = log1pSeries(x.subtract(BigDecimal.ONE), referenceContext);
+				BigDecimal expectedLog10 = expectedLog.divide(BigDecimalMath.log(BigDecimal.TEN, referenceContext), referenceContext);
+
+				assertBigDecimal("log(" + value + ")", expectedLog, BigDecimalMath.log(x, mathContext), mathContext);
+				assertBigDecimal("log10(" + value + ")", expectedLog10, BigDecimalMath.log10(x, mathContext), mathContext);
+			}
+		}
+
+		assertEquals(
+				new BigDecimal("9.9999999995000000000333333333308333333335333333333E-11"),
+				BigDecimalMath.log(new BigDecimal("1.0000000001"), new MathContext(50)));
+	}
+
+	private static BigDecimal log1pSeries(BigDecimal t, MathContext mathContext) {
+		// log(1 + t) = t - t^2/2 + t^3/3 - ... for |t| < 1
+		BigDecimal acceptableError = t.abs().movePointLeft(mathContext.getPrecision() + 1);
+		BigDecimal sum = BigDecimal.ZERO;
+		BigDecimal power = BigDecimal.ONE;
+		BigDecimal step;
+		int n = 0;
+		do {
+			n++;
+			power = power.multiply(t, mathContext);
+			step = power.divide(BigDecimal.valueOf(n), mathContext);
+			sum = n % 2 == 1 ? sum.add(step, mathContext) : sum.subtract(step, mathContext);
+		} while (step.abs().compareTo(acceptableError) > 0);
+		return sum;
+	}
+
 	@Test
 	public void testLog10WithPositivePowersOfTen() {
 		MathContext mathContext = new MathContext(50);		
@@ -1126,6 +1372,20 @@ public class BigDecimalMathTest {
 				60);
 	}
 
+	@Test
+	public void testExpLongArgumentLowPrecision() {
+		// arguments with many digits are calculated exactly only at high precision, at low precision the reduced series is used
+		String[] values = { "99.99999999999999999", "-99.99999999999999999", "12.34567890123456789", "0.12345678901234567890", "2.5" };
+		for (String value : values) {
+			BigDecimal x = new BigDecimal(value);
+			BigDecimal reference = BigDecimalMath.exp(x, new MathContext(1000));
+			for (int precision : new int[] { 16, 50, 1000 }) {
+				MathContext mathContext = new MathContext(precision);
+				assertBigDecimal("exp(" + value + ")", reference, BigDecimalMath.exp(x, mathContext), mathContext);
+			}
+		}
+	}
+
 	@Test
 	public void testExpRandom() {
 		assertRandomCalculation(
@@ -1161,6 +1421,108 @@ public class BigDecimalMathTest {
 				10);
 	}
 
+	@Test
+	public void testSinCosQuadrantsHighPrecision() {
+		MathContext mathContext = new MathContext(1000);
+		MathContext calculationContext = new MathContext(1010);
+		BigDecimal halfPi = BigDecimalMath.pi(calculationContext).divide(BigDecimal.valueOf(2), calculationContext);
+		for (int quadrant = -4; quadrant <= 4; quadrant++) {
+			BigDecimal x = halfPi.multiply(BigDecimal.valueOf(quadrant)).add(BigDecimalMath.sqrt(BigDecimal.valueOf(0.2), calculationContext), calculationContext);
+			BigDecimal sin = BigDecimalMath.sin(x, calculationContext);
+			BigDecimal cos = BigDecimalMath.cos(x, calculationContext);
+
+			assertBigDecimal("sin^2 + cos^2 in quadrant " + quadrant,
+					BigDecimal.ONE,
+					sin.multiply(sin).add(cos.multiply(cos)).round(mathContext),
+					mathContext);
+			assertBigDecimal("sin(x + pi/2) in quadrant " + quadrant,
+					cos.round(mathContext),
+					BigDecimalMath.sin(x.add(halfPi), mathContext),
+					mathContext);
+		}
+	}
+
+	@Test
+	public void testSinCosTanReductionPaths() {
+		// low precision skips the multiple-angle formulas, high precision does not reduce short angles below 2 pi
+		String[] values = { "0.79", "1.2", "2.356194490192345", "2.7", "-2.7", "3.926990816987241", "6", "6.283", "123.456" };
+		MathContext referenceContext = new MathContext(1100);
+		for (String value : values) {
+			BigDecimal x = new BigDecimal(value);
+			BigDecimal referenceSin = BigDecimalMath.sin(x, referenceContext);
+			BigDecimal referenceCos = BigDecimalMath.cos(x, referenceContext);
+			BigDecimal referenceTan = referenceSin.divide(referenceCos, referenceContext);
+			for (int precision : new int[] { 16, 50, 99, 100, 149, 150, 200, 1000 }) {
+				MathContext mathContext = new MathContext(precision);
+				assertBigDecimal("sin(" + value + ")", referenceSin, BigDecimalMath.sin(x, mathContext), mathContext);
+				assertBigDecimal("cos(" + value + ")", referenceCos, BigDecimalMath.cos(x, mathContext), mathContext);
+				assertBigDecimal("tan(" + value + ")", referenceTan, BigDecimalMath.tan(x, mathContext), mathContext);
+			}
+		}
+	}
+
+	@Test
+	public void testSinCosTanNearMultiplesOfHalfPi() {
+		// the leading digits of x and n * pi/2 cancel for x close to a multiple of pi/2
+		String[] values = {
+				"3.1415926535897932384626433832795028841971",
+				"-3.1415926535897932384626433832795028841971",
+				"3.14159265358979323846",
+				"6.2831853071795864769252867665590057683943",
+				"1.5707963267948966192313216916397514420986",
+				"1.5707963267948966192313216916397514420985846996876",
+				"4.712388980384689857693965074919254326296",
+				"3141.5926535897932384626433832795028841971693993751"
+		};
+		for (String value : values) {
+			BigDecimal x = new BigDecimal(value);
+			for (int precision : new int[] { 10, 16, 30, 40, 50, 200 }) {
+				MathContext mathContext = new MathContext(precision);
+				MathContext referenceContext = new MathContext(precision + 100);
+				BigDecimal halfPi = BigDecimalMath.pi(referenceContext).divide(BigDecimal.valueOf(2), referenceContext);
+				long n = Math.round(x.doubleValue() / (Math.PI / 2));
+				BigDecimal r = x.subtract(halfPi.multiply(BigDecimal.valueOf(n)), referenceContext);
+				BigDecimal sinR = trigonometricSeries(r, 1, referenceContext);
+				BigDecimal cosR = trigonometricSeries(r, 0, referenceContext);
+
+				int quadrant = (int) Math.floorMod(n, 4);
+				BigDecimal expectedSin = quadrant % 2 == 0 ? sinR : cosR;
+				BigDecimal expectedCos = quadrant % 2 == 0 ? cosR : sinR.negate();
+				if (quadrant >= 2) {
+					expectedSin = expectedSin.negate();
+					expectedCos = expectedCos.negate();
+				}
+				BigDecimal expectedTan = expectedSin.divide(expectedCos, referenceContext);
+
+				assertBigDecimal("sin(" + value + ")", expectedSin, BigDecimalMath.sin(x, mathContext), mathContext);
+				assertBigDecimal("cos(" + value + ")", expectedCos, BigDecimalMath.cos(x, mathContext), mathContext);
+				assertBigDecimal("tan(" + value + ")", expectedTan, BigDecimalMath.tan(x, mathContext), mathContext);
+				BigDecimal[] sinCos = BigDecimalMath.sinCos(x, mathContext);
+				assertBigDecimal("sinCos(" + value + ")[0]", expectedSin, sinCos[0], mathContext);
+				assertBigDecimal("sinCos(" + value + ")[1]", expectedCos, sinCos[1], mathContext);
+			}
+		}
+
+		assertEquals(
+				new BigDecimal("6.9399375105820974945E-41"),
+				BigDecimalMath.sin(new BigDecimal("3.1415926535897932384626433832795028841971"), new MathContext(20)));
+	}
+
+	private static BigDecimal trigonometricSeries(BigDecimal r, int firstPower, MathContext mathContext) {
+		// sin(r) = r - r^3/3! + r^5/5! - ... and cos(r) = 1 - r^2/2! + r^4/4! - ...
+		BigDecimal acceptableError = BigDecimal.ONE.movePointLeft(mathContext.getPrecision() + 1);
+		BigDecimal rSquared = r.multiply(r, mathContext);
+		BigDecimal step = firstPower == 1 ? r : BigDecimal.ONE;
+		BigDecimal sum = step;
+		int n = firstPower;
+		while (step.abs().compareTo(acceptableError) > 0) {
+			step = step.multiply(rSquared, mathContext).divide(BigDecimal.valueOf(-(n + 1) * (n + 2)), mathContext);
+			sum = sum.add(step, mathContext);
+			n += 2;
+		}
+		return sum;
+	}
+
 	@Test
 	public void testSinRandom() {
 		testSinRandom(100);
@@ -1194,6 +1556,19 @@ public class BigDecimalMathTest {
 		}
 	}
 
+	@Test
+	public void testAsinHighPrecision() {
+		MathContext mathContext = new MathContext(1000);
+		MathContext calculationContext = new MathContext(1010);
+		BigDecimal longValue = BigDecimalMath.sqrt(BigDecimal.valueOf(0.3), calculationContext);
+		for (BigDecimal x : new BigDecimal[] { new BigDecimal("1E-20"), BigDecimal.valueOf(0.3), BigDecimal.valueOf(0.7), BigDecimal.valueOf(-0.95), BigDecimal.valueOf(0.999999), longValue }) {
+			assertBigDecimal("sin(asin(" + x.round(MathContext.DECIMAL32) + "))",
+					x.round(mathContext),
+					BigDecimalMath.sin(BigDecimalMath.asin(x, calculationContext), mathContext),
+					mathContext);
+		}
+	}
+
 	@Test
 	public void testAsinRandom() {
 		testAsinRandom(100);
@@ -1269,6 +1644,23 @@ public class BigDecimalMathTest {
 	}
 
 
+	@Test
+	public void testSinCos() {
+		for (MathContext mathContext : new MathContext[] { MC, new MathContext(1000) }) {
+			for(double value : new double[] { -10, -5, -1, -0.3, 0, 0.1, 0.7, 1.234, 2, 10, 20, 222 }) {
+				BigDecimal x = BigDecimal.valueOf(value);
+				BigDecimal[] sinCos = BigDecimalMath.sinCos(x, mathContext);
+				assertBigDecimal("sinCos(" + value + ")[0]", BigDecimalMath.sin(x, mathContext), sinCos[0], mathContext);
+				assertBigDecimal("sinCos(" + value + ")[1]", BigDecimalMath.cos(x, mathContext), sinCos[1], mathContext);
+			}
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSinCosUnlimitedFail() {
+		BigDecimalMath.sinCos(BigDecimal.valueOf(2), MathContext.UNLIMITED);
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testCosUnlimitedFail() {
 		BigDecimalMath.cos(BigDecimal.valueOf(2), MathContext.UNLIMITED);
@@ -1366,6 +1758,21 @@ public class BigDecimalMathTest {
 				(x, mathContext) -> BigDecimalMath.atan(x, mathContext));
 	}
 
+	@Test
+	public void testAtanHighPrecision() {
+		MathContext mathContext = new MathContext(500);
+		MathContext referenceContext = new MathContext(520);
+		BigDecimal longValue = BigDecimalMath.sqrt(BigDecimal.valueOf(0.5), referenceContext);
+		for (BigDecimal x : new BigDecimal[] { BigDecimal.valueOf(0.3), BigDecimal.valueOf(0.9), BigDecimal.ONE, BigDecimal.valueOf(7), BigDecimal.valueOf(-2), longValue, longValue.negate(), longValue.multiply(BigDecimal.TEN) }) {
+			// atan(x) = asin(x / sqrt(1 + x^2))
+			BigDecimal expected = BigDecimalMath.asin(x.divide(BigDecimalMath.sqrt(BigDecimal.ONE.add(x.multiply(x)), referenceContext), referenceContext), referenceContext);
+			assertBigDecimal("atan(" + x.round(MathContext.DECIMAL32) + ")",
+					expected.round(mathContext),
+					BigDecimalMath.atan(x, mathContext),
+					mathContext);
+		}
+	}
+
 	@Test
 	public void testAtanRandomMultiThreaded() throws Throwable {
 		runMultiThreaded(() -> testAtanRandom(10));
@@ -1619,6 +2026,23 @@ public class BigDecimalMathTest {
 		BigDecimalMath.cosh(BigDecimal.valueOf(2), MathContext.UNLIMITED);
 	}
 
+	@Test
+	public void testSinhCosh() {
+		for (MathContext mathContext : new MathContext[] { MC, new MathContext(1000) }) {
+			for(double value : new double[] { -10, -5, -1, -0.3, 0, 0.001, 0.1, 0.999, 1, 1.234, 2, 10, 20, 222 }) {
+				BigDecimal x = BigDecimal.valueOf(value);
+				BigDecimal[] sinhCosh = BigDecimalMath.sinhCosh(x, mathContext);
+				assertBigDecimal("sinhCosh(" + value + ")[0]", BigDecimalMath.sinh(x, mathContext), sinhCosh[0], mathContext);
+				assertBigDecimal("sinhCosh(" + value + ")[1]", BigDecimalMath.cosh(x, mathContext), sinhCosh[1], mathContext);
+			}
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSinhCoshUnlimitedFail() {
+		BigDecimalMath.sinhCosh(BigDecimal.valueOf(2), MathContext.UNLIMITED);
+	}
+
 	@Test
 	public void testTanhRandom() {
 		testTanhRandom(100);
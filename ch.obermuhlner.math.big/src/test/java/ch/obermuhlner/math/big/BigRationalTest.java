@@ -20,6 +20,7 @@ import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -825,6 +826,75 @@ public class BigRationalTest {
 		ONE.divide(ZERO);
 	}
 
+	@Test(expected = ArithmeticException.class)
+	public void testDivideLargeByZero() {
+		valueOf(BigInteger.TEN.pow(200), BigInteger.valueOf(3).pow(200)).divide(ZERO);
+	}
+
+	@Test
+	public void testLongOverflow() {
+		BigInteger bigMax = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger bigMin = BigInteger.valueOf(Long.MIN_VALUE);
+		BigRational max = valueOf(bigMax);
+		BigRational min = valueOf(bigMin);
+
+		assertEquals("9223372036854775808", max.add(ONE).toString());
+		assertEquals("9223372036854775808", max.increment().toString());
+		assertEquals("-9223372036854775809", min.subtract(ONE).toString());
+		assertEquals("-9223372036854775809", min.decrement().toString());
+		assertEquals("-9223372036854775809", min.subtract(1).toString());
+		assertEquals("9223372036854775808", min.negate().toString());
+		assertEquals(valueOf(bigMax.multiply(bigMax)), max.multiply(max));
+		assertEquals(valueOf(bigMax.multiply(BigInteger.valueOf(3))), max.multiply(3));
+		assertEquals(valueOf(bigMax.add(bigMax)), max.add(max));
+		assertEquals(valueOf(BigInteger.ONE, bigMax.multiply(BigInteger.valueOf(3))), max.reciprocal().divide(3));
+		assertEquals("-1/9223372036854775808", valueOf(BigInteger.ONE, bigMin).toRationalString());
+		assertEquals("1/9223372036854775808", min.reciprocal().negate().toRationalString());
+		assertEquals("-4611686018427387904", valueOf(bigMin, BigInteger.valueOf(2)).reduce().toRationalString());
+		assertEquals("-3/4", valueOf(-6, 8).reduce().toRationalString());
+
+		// results that fit into a long again are equal to the values created directly
+		assertEquals(max, max.add(ONE).subtract(ONE));
+		assertEquals(max.hashCode(), max.add(ONE).subtract(ONE).hashCode());
+		assertEquals(valueOf(2, 3), valueOf(bigMax.multiply(BigInteger.valueOf(2)), bigMax.multiply(BigInteger.valueOf(3))).reduce());
+
+		BigRational a = valueOf(bigMax, bigMax.subtract(BigInteger.ONE));
+		BigRational b = valueOf(bigMax.subtract(BigInteger.ONE), bigMax.subtract(BigInteger.valueOf(2)));
+		assertEquals(-1, a.compareTo(b));
+		assertEquals(1, b.compareTo(a));
+		assertEquals(0, a.compareTo(valueOf(bigMax.multiply(BigInteger.TEN), bigMax.subtract(BigInteger.ONE).multiply(BigInteger.TEN))));
+		assertEquals(0, b.subtract(a).compareTo(valueOf(BigInteger.ONE, bigMax.subtract(BigInteger.ONE).multiply(bigMax.subtract(BigInteger.valueOf(2))))));
+	}
+
+	@Test
+	public void testLargeValuesReduced() {
+		// 1/1 + 1/2 + ... + 1/n would need a denominator of n! if not reduced
+		BigRational harmonic = ZERO;
+		for (int k = 1; k <= 300; k++) {
+			harmonic = harmonic.add(valueOf(1, k));
+		}
+		assertEquals(harmonic.reduce().toRationalString(), harmonic.toRationalString());
+
+		BigRational product = ONE;
+		for (int k = 1; k <= 300; k++) {
+			product = product.multiply(valueOf(k + 1, k));
+		}
+		assertEquals("301", product.reduce().toRationalString());
+		assertTrue(product.getNumeratorBigInteger().bitLength() + product.getDenominatorBigInteger().bitLength() <= 256);
+
+		BigRational quotient = ONE;
+		for (int k = 1; k <= 300; k++) {
+			quotient = quotient.divide(valueOf(k, k + 1)).subtract(valueOf(1, 7)).add(valueOf(1, 7));
+		}
+		// small values are not reduced automatically
+		assertEquals(0, valueOf(301).compareTo(quotient));
+		assertTrue(quotient.getNumeratorBigInteger().bitLength() + quotient.getDenominatorBigInteger().bitLength() <= 256);
+
+		BigRational large = valueOf(BigInteger.valueOf(6).pow(100), BigInteger.valueOf(10).pow(100));
+		assertEquals("3/5", large.pow(3).divide(large.pow(2)).divide(large).multiply(valueOf(3, 5)).toRationalString());
+		assertSame(ZERO, large.subtract(large));
+	}
+
 	/**
 	 * Tests {@link BigRational#pow(int)}.
 	 */
@@ -872,4 +942,42 @@ public class BigRationalTest {
 	public void testBernoulliNegative() {
 		bernoulli(-1);
 	}
+
+	/**
+	 * Tests {@link BigRational#bernoulli(int, int)}.
+	 */
+	@Test
+	public void testBernoulliRange() {
+		List<BigRational> bernoulli = bernoulli(0, 100);
+		assertEquals(100, bernoulli.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals("B(" + i + ")", bernoulli(i), bernoulli.get(i));
+		}
+
+		assertEquals("-691/2730", bernoulli(12, 13).get(0).toRationalString());
+		assertEquals(0, bernoulli(10, 10).size());
+	}
+
+	@Test
+	public void testBernoulliRangeLarge() {
+		List<BigRational> bernoulli = bernoulli(400, 402);
+		assertSame(bernoulli(400), bernoulli.get(0));
+		assertEquals(ZERO, bernoulli.get(1));
+
+		// von Staudt-Clausen: the denominator of B(400) is the product of the primes p with (p-1) dividing 400
+		BigRational b400 = bernoulli.get(0);
+		assertEquals(BigInteger.valueOf(2L * 3 * 5 * 11 * 17 * 41 * 101 * 401), b400.getDenominatorBigInteger());
+		assertEquals(b400, b400.reduce());
+		assertEquals(-1, b400.signum());
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testBernoulliRangeNegative() {
+		bernoulli(-1, 10);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBernoulliRangeIllegal() {
+		bernoulli(10, 9);
+	}
 }
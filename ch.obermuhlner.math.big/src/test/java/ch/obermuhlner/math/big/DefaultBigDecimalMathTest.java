@@ -8,6 +8,7 @@ import java.math.RoundingMode;
 import java.util.Random;
 
 import static ch.obermuhlner.util.ThreadUtil.runMultiThreaded;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class DefaultBigDecimalMathTest {
@@ -113,6 +114,13 @@ public class DefaultBigDecimalMathTest {
                 DefaultBigDecimalMath.gamma(BigDecimal.valueOf(1.1)));
     }
 
+    @Test
+    public void testLogGamma() {
+        assertEquals(
+                BigDecimalMath.logGamma(BigDecimal.valueOf(1.1), DefaultBigDecimalMath.getDefaultMathContext()),
+                DefaultBigDecimalMath.logGamma(BigDecimal.valueOf(1.1)));
+    }
+
     @Test
     public void testPowInt() {
         assertEquals(
@@ -232,6 +240,20 @@ public class DefaultBigDecimalMathTest {
                 DefaultBigDecimalMath.acot(BigDecimal.valueOf(3)));
     }
 
+    @Test
+    public void testSinCos() {
+        assertArrayEquals(
+                BigDecimalMath.sinCos(BigDecimal.valueOf(3), DefaultBigDecimalMath.getDefaultMathContext()),
+                DefaultBigDecimalMath.sinCos(BigDecimal.valueOf(3)));
+    }
+
+    @Test
+    public void testSinhCosh() {
+        assertArrayEquals(
+                BigDecimalMath.sinhCosh(BigDecimal.valueOf(3), DefaultBigDecimalMath.getDefaultMathContext()),
+                DefaultBigDecimalMath.sinhCosh(BigDecimal.valueOf(3)));
+    }
+
     @Test
     public void testSinh() {
         assertEquals(
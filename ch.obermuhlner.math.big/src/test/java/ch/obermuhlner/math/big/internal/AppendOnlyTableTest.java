@@ -0,0 +1,88 @@
+package ch.obermuhlner.math.big.internal;
+
+import static ch.obermuhlner.util.ThreadUtil.runMultiThreaded;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.obermuhlner.math.big.BigRational;
+import org.junit.Test;
+
+public class AppendOnlyTableTest {
+
+	@Test
+	public void testEmpty() {
+		AppendOnlyTable<String> table = new AppendOnlyTable<>();
+		assertEquals(0, table.size());
+	}
+
+	@Test
+	public void testSegmentGrowth() {
+		AppendOnlyTable<Integer> table = new AppendOnlyTable<>();
+
+		// enough values to fill several segments and to grow the initial segment array more than once
+		int count = 1000;
+		for (int i = 0; i < count; i++) {
+			table.add(i);
+			assertEquals(i + 1, table.size());
+			assertEquals(Integer.valueOf(i), table.get(i));
+		}
+
+		for (int i = 0; i < count; i++) {
+			assertEquals(Integer.valueOf(i), table.get(i));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetBeyondSizeFail() {
+		AppendOnlyTable<String> table = new AppendOnlyTable<>();
+		table.add("a");
+		table.get(1);
+	}
+
+	@Test
+	public void testConcurrentReadersOfSeriesFactors() throws Throwable {
+		int count = 500;
+		HarmonicCalculator calculator = new HarmonicCalculator();
+		AtomicInteger nextThread = new AtomicInteger();
+
+		runMultiThreaded(8, () -> {
+			// every thread reads the factors with a different stride so that readers and appenders interleave
+			int stride = 1 + nextThread.getAndIncrement();
+			for (int start = 0; start < stride; start++) {
+				for (int i = start; i < count; i += stride) {
+					assertEquals(BigRational.valueOf(1, i + 1), calculator.getFactor(i));
+				}
+			}
+		});
+
+		assertEquals(count, calculator.calculatedFactorCount.get());
+	}
+
+	/**
+	 * Series with the factors 1/(n+1) that counts how many factors are calculated.
+	 */
+	private static class HarmonicCalculator extends SeriesCalculator {
+		private final AtomicInteger calculatedFactorCount = new AtomicInteger();
+
+		private int n = 0;
+
+		@Override
+		protected BigRational getCurrentFactor() {
+			calculatedFactorCount.incrementAndGet();
+			return BigRational.valueOf(1, n + 1);
+		}
+
+		@Override
+		protected void calculateNextFactor() {
+			n++;
+		}
+
+		@Override
+		protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
+			return new PowerNIterator(x, mathContext);
+		}
+	}
+}
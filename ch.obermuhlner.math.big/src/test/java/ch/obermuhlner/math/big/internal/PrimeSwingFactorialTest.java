@@ -0,0 +1,36 @@
+package ch.obermuhlner.math.big.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class PrimeSwingFactorialTest {
+
+	@Test
+	public void testFactorial() {
+		BigInteger expected = BigInteger.ONE;
+		for (int n = 0; n <= 3000; n++) {
+			if (n > 0) {
+				expected = expected.multiply(BigInteger.valueOf(n));
+			}
+			assertEquals("n=" + n, expected, PrimeSwingFactorial.factorial(n));
+		}
+	}
+
+	@Test
+	public void testCheckpointsBounded() {
+		// every n is too far away from the previous checkpoint to reuse it,
+		// but n - 1 is calculated from the previous checkpoint
+		for (int i = 0; i < 70; i++) {
+			int n = 2000 + i * 1001;
+			BigInteger factorial = PrimeSwingFactorial.factorial(n);
+			assertEquals("n=" + n, PrimeSwingFactorial.factorial(n - 1).multiply(BigInteger.valueOf(n)), factorial);
+
+			assertTrue("count=" + PrimeSwingFactorial.getCheckpointCount(), PrimeSwingFactorial.getCheckpointCount() <= 64);
+			assertTrue("bits=" + PrimeSwingFactorial.getCheckpointBits(), PrimeSwingFactorial.getCheckpointBits() <= 1L << 25);
+		}
+	}
+}
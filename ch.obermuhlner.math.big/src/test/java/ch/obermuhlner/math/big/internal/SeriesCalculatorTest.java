@@ -0,0 +1,178 @@
+package ch.obermuhlner.math.big.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import ch.obermuhlner.math.big.BigRational;
+import org.junit.Test;
+
+public class SeriesCalculatorTest {
+
+	private static final SeriesCalculator[] CALCULATORS = {
+			ExpCalculator.INSTANCE,
+			SinCalculator.INSTANCE,
+			CosCalculator.INSTANCE,
+			SinhCalculator.INSTANCE,
+			CoshCalculator.INSTANCE
+	};
+
+	private static final BigDecimal[] VALUES = {
+			new BigDecimal("0.1"),
+			new BigDecimal("-0.7"),
+			new BigDecimal("0.987654321"),
+			new BigDecimal("1.5")
+	};
+
+	@Test
+	public void testRectangularSplittingAroundThreshold() {
+		int threshold = SeriesCalculator.RECTANGULAR_SPLITTING_MIN_PRECISION;
+		for (int precision = threshold - 2; precision <= threshold + 2; precision++) {
+			MathContext mathContext = new MathContext(precision);
+			for (SeriesCalculator calculator : CALCULATORS) {
+				for (BigDecimal value : VALUES) {
+					BigDecimal sequential = calculator.calculateSequential(value, mathContext);
+					BigDecimal rectangular = calculator.calculateRectangularSplitting(value, mathContext);
+					assertBigDecimal(sequential, rectangular, mathContext);
+
+					BigDecimal expected = precision < threshold ? sequential : rectangular;
+					assertEquals(calculator.getClass().getSimpleName() + " " + value + " precision=" + precision, expected, calculator.calculate(value, mathContext));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFactorRatios() {
+		for (SeriesCalculator calculator : CALCULATORS) {
+			for (int i = 1; i <= 400; i++) {
+				BigInteger[] ratio = calculator.getFactorRatio(i);
+				BigRational expected = calculator.getFactor(i).divide(calculator.getFactor(i - 1));
+				BigRational actual = BigRational.valueOf(ratio[0], ratio[1]);
+				assertEquals(calculator.getClass().getSimpleName() + " index=" + i + " expected=" + expected + " actual=" + actual, 0, expected.compareTo(actual));
+			}
+		}
+	}
+
+	@Test
+	public void testNextTermFromIntegerRatio() {
+		MathContext mathContext = new MathContext(60);
+		for (SeriesCalculator calculator : CALCULATORS) {
+			for (BigDecimal value : VALUES) {
+				assertNextTerms(calculator, value, 400, mathContext);
+			}
+		}
+	}
+
+	@Test
+	public void testNextTermSwitchesToFactorAtLargeIndex() {
+		MathContext mathContext = new MathContext(60);
+		ZeroFactorCalculator calculator = new ZeroFactorCalculator(300);
+
+		// no integer ratio exists to and from the zero factor
+		assertNull(calculator.getFactorRatio(300));
+		assertNull(calculator.getFactorRatio(301));
+
+		for (BigDecimal value : VALUES) {
+			assertNextTerms(calculator, value, 400, mathContext);
+		}
+	}
+
+	private static void assertNextTerms(SeriesCalculator calculator, BigDecimal value, int count, MathContext mathContext) {
+		PowerIterator powerIterator = calculator.createPowerIterator(value, mathContext);
+		BigDecimal firstPower = powerIterator.getCurrentPower();
+		BigDecimal powerFactor = powerIterator.getPowerFactor();
+
+		BigDecimal term = calculator.calculateTerm(0, firstPower, powerFactor, mathContext);
+		for (int i = 1; i < count; i++) {
+			term = calculator.calculateNextTerm(term, i, firstPower, powerFactor, mathContext);
+			BigDecimal expected = calculator.calculateTerm(i, firstPower, powerFactor, mathContext);
+
+			// every step from the previous term may add a rounding error of 1 ulp
+			String description = calculator.getClass().getSimpleName() + " " + value + " index=" + i + " expected=" + expected + " actual=" + term;
+			if (expected.signum() == 0) {
+				assertEquals(description, 0, term.signum());
+			} else {
+				BigDecimal acceptableError = expected.round(mathContext).ulp().multiply(BigDecimal.valueOf(2 * i));
+				assertTrue(description, expected.subtract(term).abs().compareTo(acceptableError) <= 0);
+			}
+		}
+	}
+
+	@Test
+	public void testParallelSeries() {
+		MathContext mathContext = new MathContext(300);
+		BigDecimal[] values = { new BigDecimal("0.1"), new BigDecimal("-0.7"), new BigDecimal("1.234"), new BigDecimal("3") };
+
+		int oldParallelPrecision = SeriesCalculator.getParallelPrecision();
+		try {
+			for (BigDecimal value : values) {
+				SeriesCalculator.setParallelPrecision(0);
+				BigDecimal expectedExp = BigDecimalMath.exp(value, mathContext);
+				BigDecimal expectedSin = BigDecimalMath.sin(value, mathContext);
+				BigDecimal expectedCos = BigDecimalMath.cos(value, mathContext);
+				BigDecimal expectedSinh = BigDecimalMath.sinh(value, mathContext);
+				BigDecimal expectedCosh = BigDecimalMath.cosh(value, mathContext);
+
+				SeriesCalculator.setParallelPrecision(100);
+				assertEquals(100, SeriesCalculator.getParallelPrecision());
+				assertBigDecimal(expectedExp, BigDecimalMath.exp(value, mathContext), mathContext);
+				assertBigDecimal(expectedSin, BigDecimalMath.sin(value, mathContext), mathContext);
+				assertBigDecimal(expectedCos, BigDecimalMath.cos(value, mathContext), mathContext);
+				assertBigDecimal(expectedSinh, BigDecimalMath.sinh(value, mathContext), mathContext);
+				assertBigDecimal(expectedCosh, BigDecimalMath.cosh(value, mathContext), mathContext);
+			}
+		} finally {
+			SeriesCalculator.setParallelPrecision(oldParallelPrecision);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParallelSeriesPrecisionNegativeFail() {
+		SeriesCalculator.setParallelPrecision(-1);
+	}
+
+	private static void assertBigDecimal(BigDecimal expected, BigDecimal actual, MathContext mathContext) {
+		MathContext calculationMathContext = new MathContext(mathContext.getPrecision() + 10);
+		BigDecimal error = expected.subtract(actual, calculationMathContext).abs();
+		BigDecimal acceptableError = actual.round(mathContext).ulp();
+
+		String description = "expected=" + expected + " actual=" + actual + " precision=" + mathContext.getPrecision() + " error=" + error + " acceptableError=" + acceptableError;
+		assertTrue(description, error.compareTo(acceptableError) <= 0);
+	}
+
+	/**
+	 * Exponential series with a single zero factor, so that no integer ratio exists at this index.
+	 */
+	private static class ZeroFactorCalculator extends SeriesCalculator {
+		private final int zeroIndex;
+
+		private int n = 0;
+		private BigRational oneOverFactorialOfN = BigRational.ONE;
+
+		ZeroFactorCalculator(int zeroIndex) {
+			this.zeroIndex = zeroIndex;
+		}
+
+		@Override
+		protected BigRational getCurrentFactor() {
+			return n == zeroIndex ? BigRational.ZERO : oneOverFactorialOfN;
+		}
+
+		@Override
+		protected void calculateNextFactor() {
+			n++;
+			oneOverFactorialOfN = oneOverFactorialOfN.divide(n);
+		}
+
+		@Override
+		protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
+			return new PowerNIterator(x, mathContext);
+		}
+	}
+}